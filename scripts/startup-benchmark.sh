@@ -0,0 +1,102 @@
+#!/usr/bin/env bash
+# ✅ 기동 방식별 기동 시간, 첫 요청 지연 시간 측정 (결과 : build/reports/startup/startup.md, 측정 기록은 docs/startup.md)
+#
+#    ➡️ 사용법 : ./gradlew cdsArchive && scripts/startup-benchmark.sh [반복 횟수(기본 5)]
+#
+#    ➡️ 측정 모드 (모두 build/cds 에 풀어놓은 같은 jar 를 prod 프로필로 실행)
+#
+#            - jar     : 일반 실행
+#            - aot     : -Dspring.aot.enabled=true (빌드 때 만든 빈 정의, 엔티티/레포지토리 정보 사용)
+#            - cds     : -XX:SharedArchiveFile=application.jsa (학습 실행에서 저장한 클래스 아카이브 사용)
+#            - aot+cds : 둘 다 사용 (운영 권장)
+#
+#    ➡️ 출력
+#
+#            - startup(s) : 로그의 "Started JpaAdvanceApplication in ... (process running for N)" 의 N (JVM 시작부터)
+#            - first request(ms) : 기동 직후 첫 HTTP 요청 응답 시간 (DispatcherServlet, 메시지 컨버터 초기화 포함)
+#
+#    📢 DB 없이도 실행되도록 Flyway 를 생략하고(FLYWAY_ENABLED=false) DB 를 쓰지 않는 URL 로 첫 요청을 보냄
+#       DB 가 있으면 DB_URL 과 FIRST_REQUEST_PATH=/api/orders?size=20 으로 실제 조회 지연까지 측정
+
+set -euo pipefail
+
+RUNS=${1:-5}
+PORT=${PORT:-18080}
+FIRST_REQUEST_PATH=${FIRST_REQUEST_PATH:-/actuator/prometheus}
+JAVA=${JAVA:-java}
+
+ROOT=$(cd "$(dirname "$0")/.." && pwd)
+CDS_DIR="$ROOT/build/cds"
+REPORT_DIR="$ROOT/build/reports/startup"
+JAR=$(ls "$CDS_DIR"/*.jar 2>/dev/null | head -1 || true)
+
+if [[ -z "$JAR" || ! -f "$CDS_DIR/application.jsa" ]]; then
+  echo "build/cds 가 없습니다. 먼저 ./gradlew cdsArchive 를 실행하세요." >&2
+  exit 1
+fi
+mkdir -p "$REPORT_DIR"
+
+declare -A MODE_OPTS=(
+  [jar]=""
+  [aot]="-Dspring.aot.enabled=true"
+  [cds]="-XX:SharedArchiveFile=application.jsa -Xlog:cds=off"
+  [aot+cds]="-Dspring.aot.enabled=true -XX:SharedArchiveFile=application.jsa -Xlog:cds=off"
+)
+MODES=(jar aot cds aot+cds)
+
+# 한 번 실행 : "기동 시간(s) 첫 요청(ms)" 출력
+run_once() {
+  local opts=$1 log
+  log=$(mktemp)
+  # shellcheck disable=SC2086
+  (cd "$CDS_DIR" && FLYWAY_ENABLED=false exec "$JAVA" $opts -jar "$JAR" \
+      --spring.profiles.active=prod --server.port="$PORT" --spring.main.banner-mode=off >"$log" 2>&1) &
+  local pid=$!
+
+  until grep -q "Started JpaAdvanceApplication" "$log"; do
+    if ! kill -0 "$pid" 2>/dev/null; then
+      cat "$log" >&2
+      exit 1
+    fi
+    sleep 0.05
+  done
+
+  local startup first
+  startup=$(sed -n 's/.*process running for \([0-9.]*\).*/\1/p' "$log" | head -1)
+  first=$(curl -s -o /dev/null -w '%{time_total}' "http://localhost:$PORT$FIRST_REQUEST_PATH")
+
+  kill "$pid"
+  wait "$pid" 2>/dev/null || true
+  rm -f "$log"
+  awk -v s="$startup" -v f="$first" 'BEGIN { printf "%s %.1f\n", s, f * 1000 }'
+}
+
+median() {
+  sort -n | awk '{ v[NR] = $1 } END { print v[int((NR + 1) / 2)] }'
+}
+
+REPORT="$REPORT_DIR/startup.md"
+{
+  echo "| mode | startup median (s) | startup min (s) | first request median (ms) |"
+  echo "|------|-------------------:|----------------:|--------------------------:|"
+} >"$REPORT"
+
+declare -A STARTUP FIRST
+# 모드를 번갈아 실행하여 디스크 캐시, CPU 상태의 영향을 고르게 나눔
+for ((i = 1; i <= RUNS; i++)); do
+  for mode in "${MODES[@]}"; do
+    read -r s f < <(run_once "${MODE_OPTS[$mode]}")
+    STARTUP[$mode]+="$s "
+    FIRST[$mode]+="$f "
+    echo "run $i/$RUNS $mode : startup ${s}s, first request ${f}ms" >&2
+  done
+done
+
+for mode in "${MODES[@]}"; do
+  s_median=$(tr ' ' '\n' <<<"${STARTUP[$mode]}" | grep . | median)
+  s_min=$(tr ' ' '\n' <<<"${STARTUP[$mode]}" | grep . | sort -n | head -1)
+  f_median=$(tr ' ' '\n' <<<"${FIRST[$mode]}" | grep . | median)
+  echo "| $mode | $s_median | $s_min | $f_median |" >>"$REPORT"
+done
+
+cat "$REPORT"
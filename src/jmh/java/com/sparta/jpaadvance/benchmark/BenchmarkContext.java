@@ -0,0 +1,22 @@
+package com.sparta.jpaadvance.benchmark;
+
+import com.sparta.jpaadvance.JpaAdvanceApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/*
+✅ 벤치마크마다 임베디드 H2 로 애플리케이션 컨텍스트를 띄우는 도우미 클래스 ("bench" 프로필)
+ */
+
+final class BenchmarkContext {
+
+    private BenchmarkContext() {
+    }
+
+    static ConfigurableApplicationContext start(String... properties) {
+        return new SpringApplicationBuilder(JpaAdvanceApplication.class)
+                .profiles("bench")
+                .properties(properties)
+                .run();
+    }
+}
@@ -0,0 +1,126 @@
+package com.sparta.jpaadvance.benchmark;
+
+import com.sparta.jpaadvance.entity.Food;
+import com.sparta.jpaadvance.entity.User;
+import com.sparta.jpaadvance.repository.BulkInsertRepository;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+✅ 영속성 컨텍스트에 엔티티가 수천 개 있을 때 flush 비용을 측정하는 벤치마크
+
+    ➡️ 음식 foodCount 개를 조회해 둔 트랜잭션에서 호출마다 DIRTY_COUNT 개의 가격만 바꾸고 flush (iteration 이 끝나면 롤백)
+
+    ➡️ 바이트코드 향상 빌드(기본)와 향상하지 않은 빌드를 같은 명령으로 비교
+            ./gradlew jmh -PjmhArgs="FlushBenchmark"
+            ./gradlew jmh -PjmhArgs="FlushBenchmark" -PnoEnhance
+
+    ➡️ 향상하지 않으면 flush 할 때 모든 엔티티의 필드를 스냅샷과 비교하므로 엔티티 수에 비례하여 느려지고,
+       향상하면 setter 에서 기록한 변경 필드만 확인
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class FlushBenchmark {
+
+    static final int FOODS_PER_USER = 50;
+    static final int DIRTY_COUNT = 10;
+
+    @Param({"1000", "5000"})
+    public int foodCount;
+
+    ConfigurableApplicationContext context;
+    PlatformTransactionManager transactionManager;
+    EntityManager entityManager;
+
+    @Setup(Level.Trial)
+    public void seed() {
+        context = BenchmarkContext.start();
+        transactionManager = context.getBean(PlatformTransactionManager.class);
+        entityManager = context.getBean(EntityManager.class);
+        BulkInsertRepository bulkInsertRepository = context.getBean(BulkInsertRepository.class);
+
+        List<User> userList = new ArrayList<>();
+        for (int i = 0; i < foodCount / FOODS_PER_USER; i++) {
+            User user = new User();
+            user.setName("User" + i);
+            userList.add(user);
+        }
+        bulkInsertRepository.saveAllUsers(userList);
+
+        List<Food> foodList = new ArrayList<>();
+        for (User user : userList) {
+            for (int i = 0; i < FOODS_PER_USER; i++) {
+                Food food = new Food();
+                food.setName("음식 " + i);
+                food.setPrice(10000 + i);
+                food.setUser(user);
+                foodList.add(food);
+            }
+        }
+        bulkInsertRepository.saveAllFoods(foodList);
+    }
+
+    @TearDown(Level.Trial)
+    public void closeContext() {
+        context.close();
+    }
+
+    // 관리 중인 음식 중 DIRTY_COUNT 개의 가격을 바꾸고 flush (호출마다 다른 음식을 수정)
+    @Benchmark
+    public void flush(LoadedTransaction transaction) {
+        List<Food> foodList = transaction.foodList;
+        for (int i = 0; i < DIRTY_COUNT; i++) {
+            Food food = foodList.get(transaction.next++ % foodList.size());
+            food.setPrice(food.getPrice() + 1);
+        }
+        entityManager.flush();
+    }
+
+    // 음식을 모두 조회하여 영속성 컨텍스트에 올려 둔 트랜잭션 (iteration 마다 새로 열고 끝나면 롤백)
+    @State(Scope.Thread)
+    public static class LoadedTransaction {
+
+        FlushBenchmark benchmark;
+        TransactionStatus status;
+        List<Food> foodList;
+        int next;
+
+        @Setup(Level.Iteration)
+        public void open(FlushBenchmark benchmark) {
+            this.benchmark = benchmark;
+            status = benchmark.transactionManager.getTransaction(new DefaultTransactionDefinition());
+            foodList = benchmark.entityManager.createQuery("select f from Food f", Food.class).getResultList();
+            next = 0;
+        }
+
+        @TearDown(Level.Iteration)
+        public void rollback() {
+            benchmark.transactionManager.rollback(status);
+        }
+    }
+}
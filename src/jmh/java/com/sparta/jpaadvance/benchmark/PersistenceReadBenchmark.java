@@ -0,0 +1,136 @@
+package com.sparta.jpaadvance.benchmark;
+
+import com.sparta.jpaadvance.dto.OrderSummary;
+import com.sparta.jpaadvance.entity.Food;
+import com.sparta.jpaadvance.entity.Order;
+import com.sparta.jpaadvance.entity.User;
+import com.sparta.jpaadvance.repository.BulkInsertRepository;
+import com.sparta.jpaadvance.repository.FoodRepository;
+import com.sparta.jpaadvance.repository.OrderRepository;
+import com.sparta.jpaadvance.repository.UserRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/*
+✅ 조회 경로 벤치마크 : findByName, Food findById (회원 지연 로딩 / 엔티티 그래프), 주문 목록 조회
+
+    ➡️ 사용자 1,000명, 음식 5,000개, 주문 10,000건을 미리 저장한 뒤 측정
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class PersistenceReadBenchmark {
+
+    static final int USER_COUNT = 1000;
+    static final int FOODS_PER_USER = 5;
+    static final int ORDER_COUNT = 10000;
+
+    ConfigurableApplicationContext context;
+    UserRepository userRepository;
+    FoodRepository foodRepository;
+    OrderRepository orderRepository;
+
+    List<Long> foodIds = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void seed() {
+        context = BenchmarkContext.start();
+        userRepository = context.getBean(UserRepository.class);
+        foodRepository = context.getBean(FoodRepository.class);
+        orderRepository = context.getBean(OrderRepository.class);
+        BulkInsertRepository bulkInsertRepository = context.getBean(BulkInsertRepository.class);
+
+        List<User> userList = new ArrayList<>();
+        for (int i = 0; i < USER_COUNT; i++) {
+            User user = new User();
+            user.setName("User" + i);
+            userList.add(user);
+        }
+        bulkInsertRepository.saveAllUsers(userList);
+
+        List<Food> foodList = new ArrayList<>();
+        for (User user : userList) {
+            for (int i = 0; i < FOODS_PER_USER; i++) {
+                Food food = new Food();
+                food.setName("음식 " + i);
+                food.setPrice(10000 + i);
+                food.setUser(user);
+                foodList.add(food);
+            }
+        }
+        bulkInsertRepository.saveAllFoods(foodList);
+        foodList.forEach(food -> foodIds.add(food.getId()));
+
+        List<Order> orderList = new ArrayList<>();
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            Food food = foodList.get(i % foodList.size());
+            Order order = new Order();
+            order.setFood(food);
+            order.setUser(food.getUser());
+            orderList.add(order);
+        }
+        bulkInsertRepository.saveAllOrders(orderList);
+    }
+
+    @TearDown(Level.Trial)
+    public void closeContext() {
+        context.close();
+    }
+
+    @Benchmark
+    public User findByName() {
+        return userRepository.findByName("User" + ThreadLocalRandom.current().nextInt(USER_COUNT));
+    }
+
+    // Food.user 는 지연 로딩이므로 음식만 조회
+    @Benchmark
+    public Food findFoodById() {
+        return foodRepository.findById(randomFoodId()).orElseThrow();
+    }
+
+    // "Food.user" 엔티티 그래프로 회원까지 함께 조회
+    @Benchmark
+    public String findFoodWithUserById() {
+        return foodRepository.findWithUserById(randomFoodId()).orElseThrow().getUser().getName();
+    }
+
+    // 주문 엔티티 목록 (offset 페이징)
+    @Benchmark
+    public Page<Order> listOrderEntities() {
+        return orderRepository.findAll(PageRequest.of(10, 20, Sort.by(Sort.Direction.DESC, "orderDate", "id")));
+    }
+
+    // 주문 목록 DTO (키셋 첫 페이지)
+    @Benchmark
+    public List<OrderSummary> listOrderSummaries() {
+        return orderRepository.findSummaryFirstPage(Limit.of(20));
+    }
+
+    private Long randomFoodId() {
+        return foodIds.get(ThreadLocalRandom.current().nextInt(foodIds.size()));
+    }
+}
@@ -0,0 +1,127 @@
+package com.sparta.jpaadvance.benchmark;
+
+import com.sparta.jpaadvance.entity.Food;
+import com.sparta.jpaadvance.entity.User;
+import com.sparta.jpaadvance.repository.BulkInsertRepository;
+import com.sparta.jpaadvance.repository.FoodRepository;
+import com.sparta.jpaadvance.repository.OrderRepository;
+import com.sparta.jpaadvance.repository.UserRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+✅ 저장 경로 벤치마크 : saveAll(User / Food), JDBC 배치 저장, User.addFoodList 영속성 전이 저장
+
+    ➡️ 매 iteration 이 끝나면 저장된 데이터를 지워서 테이블 크기가 결과에 영향을 주지 않도록 함
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class PersistenceWriteBenchmark {
+
+    static final int ROWS = 100; // 호출 한 번에 저장하는 row 수
+
+    ConfigurableApplicationContext context;
+    UserRepository userRepository;
+    FoodRepository foodRepository;
+    OrderRepository orderRepository;
+    BulkInsertRepository bulkInsertRepository;
+
+    User owner;
+
+    @Setup(Level.Trial)
+    public void startContext() {
+        context = BenchmarkContext.start();
+        userRepository = context.getBean(UserRepository.class);
+        foodRepository = context.getBean(FoodRepository.class);
+        orderRepository = context.getBean(OrderRepository.class);
+        bulkInsertRepository = context.getBean(BulkInsertRepository.class);
+    }
+
+    @Setup(Level.Iteration)
+    public void createOwner() {
+        owner = new User();
+        owner.setName("Robbie");
+        userRepository.save(owner);
+    }
+
+    @TearDown(Level.Iteration)
+    public void clear() {
+        orderRepository.deleteAllInBatch();
+        foodRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @TearDown(Level.Trial)
+    public void closeContext() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<User> saveAllUsers() {
+        List<User> userList = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            User user = new User();
+            user.setName("User" + i);
+            userList.add(user);
+        }
+        return userRepository.saveAll(userList);
+    }
+
+    @Benchmark
+    public List<Food> saveAllFoods() {
+        return foodRepository.saveAll(createFoodList());
+    }
+
+    @Benchmark
+    public List<Food> bulkInsertFoods() {
+        List<Food> foodList = createFoodList();
+        bulkInsertRepository.saveAllFoods(foodList);
+        return foodList;
+    }
+
+    // User 저장 시 addFoodList 로 추가한 음식 5개가 영속성 전이(CascadeType.PERSIST)로 함께 저장
+    @Benchmark
+    public User cascadePersist() {
+        User user = new User();
+        user.setName("Robbert");
+        for (int i = 0; i < 5; i++) {
+            Food food = new Food();
+            food.setName("음식 " + i);
+            food.setPrice(10000);
+            user.addFoodList(food);
+        }
+        return userRepository.save(user);
+    }
+
+    private List<Food> createFoodList() {
+        List<Food> foodList = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            Food food = new Food();
+            food.setName("음식 " + i);
+            food.setPrice(10000 + i);
+            food.setUser(owner);
+            foodList.add(food);
+        }
+        return foodList;
+    }
+}
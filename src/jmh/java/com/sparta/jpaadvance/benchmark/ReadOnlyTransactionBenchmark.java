@@ -0,0 +1,160 @@
+package com.sparta.jpaadvance.benchmark;
+
+import com.sparta.jpaadvance.entity.Food;
+import com.sparta.jpaadvance.entity.User;
+import com.sparta.jpaadvance.repository.BulkInsertRepository;
+import com.sparta.jpaadvance.service.UserQueryService;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/*
+✅ 쓰기 트랜잭션과 읽기 전용 트랜잭션으로 큰 User.foodList 그래프를 조회할 때의 비교 벤치마크
+
+    ➡️ 사용자 200명 x 음식 50개를 저장하고, 호출마다 사용자 20명(음식 1,000개)을 foodList 와 함께 조회
+
+    ➡️ load : 트랜잭션 시작 + 조회 + 커밋, -prof gc 의 gc.alloc.rate.norm 으로 호출당 할당량(스냅샷 포함) 비교
+
+    ➡️ commit : 조회까지 끝난 트랜잭션의 커밋 시간만 측정 (쓰기 트랜잭션은 flush 하면서 모든 엔티티를 스냅샷과 비교)
+
+    ➡️ service : UserQueryService.findUsersWithFoods (id 페이징 + fetch join, 읽기 전용)
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class ReadOnlyTransactionBenchmark {
+
+    static final int USER_COUNT = 200;
+    static final int FOODS_PER_USER = 50;
+    static final int PAGE_SIZE = 20;
+
+    static final String USERS_WITH_FOODS =
+            "select distinct u from User u left join fetch u.foodList where u.id between :from and :to";
+
+    @Param({"readWrite", "readOnly"})
+    public String mode;
+
+    ConfigurableApplicationContext context;
+    PlatformTransactionManager transactionManager;
+    EntityManager entityManager;
+    UserQueryService userQueryService;
+
+    List<Long> userIds = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void seed() {
+        context = BenchmarkContext.start();
+        transactionManager = context.getBean(PlatformTransactionManager.class);
+        entityManager = context.getBean(EntityManager.class);
+        userQueryService = context.getBean(UserQueryService.class);
+        BulkInsertRepository bulkInsertRepository = context.getBean(BulkInsertRepository.class);
+
+        List<User> userList = new ArrayList<>();
+        for (int i = 0; i < USER_COUNT; i++) {
+            User user = new User();
+            user.setName("User" + i);
+            userList.add(user);
+        }
+        bulkInsertRepository.saveAllUsers(userList);
+        userList.forEach(user -> userIds.add(user.getId()));
+
+        List<Food> foodList = new ArrayList<>();
+        for (User user : userList) {
+            for (int i = 0; i < FOODS_PER_USER; i++) {
+                Food food = new Food();
+                food.setName("음식 " + i);
+                food.setPrice(10000 + i);
+                food.setUser(user);
+                foodList.add(food);
+            }
+        }
+        bulkInsertRepository.saveAllFoods(foodList);
+    }
+
+    @TearDown(Level.Trial)
+    public void closeContext() {
+        context.close();
+    }
+
+    @Benchmark
+    public int load() {
+        TransactionStatus status = transactionManager.getTransaction(definition());
+        int foods = loadGraph();
+        transactionManager.commit(status);
+        return foods;
+    }
+
+    @Benchmark
+    public void commit(LoadedTransaction transaction) {
+        transactionManager.commit(transaction.status);
+    }
+
+    @Benchmark
+    public int service() {
+        int page = ThreadLocalRandom.current().nextInt(USER_COUNT / PAGE_SIZE);
+        int foods = 0;
+        for (User user : userQueryService.findUsersWithFoods(PageRequest.of(page, PAGE_SIZE, Sort.by("id")))) {
+            foods += user.getFoodList().size();
+        }
+        return foods;
+    }
+
+    // 조회까지 끝낸 트랜잭션 (commit 벤치마크 호출마다 새로 준비)
+    @State(Scope.Thread)
+    public static class LoadedTransaction {
+
+        TransactionStatus status;
+
+        @Setup(Level.Invocation)
+        public void open(ReadOnlyTransactionBenchmark benchmark) {
+            status = benchmark.transactionManager.getTransaction(benchmark.definition());
+            benchmark.loadGraph();
+        }
+    }
+
+    DefaultTransactionDefinition definition() {
+        DefaultTransactionDefinition definition = new DefaultTransactionDefinition();
+        definition.setReadOnly("readOnly".equals(mode));
+        return definition;
+    }
+
+    int loadGraph() {
+        int from = ThreadLocalRandom.current().nextInt(USER_COUNT - PAGE_SIZE);
+        List<User> userList = entityManager.createQuery(USERS_WITH_FOODS, User.class)
+                .setParameter("from", userIds.get(from))
+                .setParameter("to", userIds.get(from + PAGE_SIZE - 1))
+                .getResultList();
+
+        int foods = 0;
+        for (User user : userList) {
+            foods += user.getFoodList().size();
+        }
+        return foods;
+    }
+}
@@ -0,0 +1,51 @@
+package com.sparta.jpaadvance.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.HibernateQueryMetrics;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/*
+✅ 영속성 계층 지표(metrics)를 Micrometer 로 수집하는 설정 클래스
+
+    ➡️ Spring Boot 가 자동으로 등록하는 지표
+
+            - hibernate.* : Hibernate 통계(hibernate.generate_statistics) 기반 엔티티 load/fetch 수, flush 수, 2차 캐시 hit/miss 등
+
+            - hikaricp.connections.* : 커넥션 풀 크기, 커넥션 획득 대기 시간(hikaricp.connections.acquire) 등
+
+            - spring.data.repository.invocations : UserRepository, FoodRepository, OrderRepository 메서드별 실행 시간
+              (repository, method, state 태그)
+
+    ➡️ 이 클래스에서 추가로 등록하는 지표
+
+            - hibernate.query.* : 실행된 HQL/JPQL 쿼리별 실행 횟수, 전체/최대/최소 실행 시간, 조회 행 수, 쿼리 캐시 hit/miss
+              (query 태그, 쿼리로 엔티티를 처음 load 할 때 등록됨)
+
+            - @Timed 가 붙은 메서드 실행 시간 (BulkInsertRepository 처럼 Spring Data 레포지토리가 아닌 클래스)
+
+    ➡️ /actuator/metrics, /actuator/prometheus 로 조회
+ */
+
+@Configuration
+public class MetricsConfig {
+
+    // 쿼리별 실행 시간 Timer
+    @Bean
+    public MeterBinder hibernateQueryMetrics(EntityManagerFactory entityManagerFactory) {
+        // SessionFactory 로 unwrap 하면 Spring 의 EntityManagerFactory 프록시가 그대로 반환되어 리스너가 등록되지 않음
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        return new HibernateQueryMetrics(sessionFactory, "entityManagerFactory", Tags.empty());
+    }
+
+    // @Timed 어노테이션을 처리하는 aspect
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+}
@@ -0,0 +1,41 @@
+package com.sparta.jpaadvance.config;
+
+import com.sparta.jpaadvance.ingest.OrderIngestionQueue;
+import com.sparta.jpaadvance.repository.BulkInsertRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/*
+✅ 비동기 주문 적재 큐(OrderIngestionQueue) 설정 클래스
+
+    ➡️ application.properties 의 jpa-advance.order-ingestion.* 로 설정
+
+            - queue-capacity : 저장을 기다릴 수 있는 최대 주문 수
+
+            - batch-size : 한 트랜잭션으로 저장할 최대 주문 수
+
+            - overflow-policy : 큐가 가득 찼을 때 REJECT(거절) / CALLER_RUNS(요청 스레드에서 직접 저장)
+
+            - shutdown-timeout : 종료할 때 남은 주문을 저장하며 기다릴 최대 시간
+
+    ➡️ 컨텍스트가 닫힐 때 close() 로 남은 주문을 저장, BulkInsertRepository 를 사용하므로 DataSource 보다 먼저 닫힘
+ */
+
+@Configuration
+public class OrderIngestionConfig {
+
+    @Bean(destroyMethod = "close")
+    public OrderIngestionQueue orderIngestionQueue(@Value("${jpa-advance.order-ingestion.queue-capacity:10000}") int capacity,
+                                                   @Value("${jpa-advance.order-ingestion.batch-size:500}") int batchSize,
+                                                   @Value("${jpa-advance.order-ingestion.overflow-policy:CALLER_RUNS}") OrderIngestionQueue.OverflowPolicy overflowPolicy,
+                                                   @Value("${jpa-advance.order-ingestion.shutdown-timeout:30s}") Duration shutdownTimeout,
+                                                   BulkInsertRepository bulkInsertRepository,
+                                                   MeterRegistry meterRegistry) {
+        return new OrderIngestionQueue(capacity, batchSize, overflowPolicy, shutdownTimeout,
+                bulkInsertRepository::saveAllOrders, meterRegistry);
+    }
+}
@@ -0,0 +1,80 @@
+package com.sparta.jpaadvance.config;
+
+import com.sparta.jpaadvance.datasource.ReadWriteRoutingDataSource;
+import com.sparta.jpaadvance.datasource.ReplicaLagMonitor;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/*
+✅ 읽기/쓰기 분리 DataSource 설정 클래스
+
+    ➡️ jpa-advance.datasource.routing.enabled=true 일 때만 적용, 아니면 Spring Boot 가 만드는 DataSource 하나를 사용
+
+    ➡️ primaryDataSource : spring.datasource.* (쓰기, 읽기/쓰기 트랜잭션)
+
+    ➡️ replicaDataSource : jpa-advance.datasource.replica.* (읽기 전용 트랜잭션), 커넥션 풀 설정은 replica.hikari.*
+
+    ➡️ dataSource(@Primary) : LazyConnectionDataSourceProxy(ReadWriteRoutingDataSource)
+
+            - JPA, JdbcTemplate 는 이 DataSource 를 사용
+
+            - 트랜잭션이 시작될 때가 아니라 첫 SQL 을 실행할 때 커넥션을 얻으므로, 그 시점에 readOnly 여부로 라우팅됨
+ */
+
+@Configuration
+@ConditionalOnProperty(name = "jpa-advance.datasource.routing.enabled", havingValue = "true")
+public class RoutingDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @ConfigurationProperties("jpa-advance.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(DataSourceProperties properties,
+                                              @Value("${jpa-advance.datasource.replica.url}") String url,
+                                              @Value("${jpa-advance.datasource.replica.username:${spring.datasource.username}}") String username,
+                                              @Value("${jpa-advance.datasource.replica.password:${spring.datasource.password}}") String password) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(properties.determineDriverClassName())
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+        dataSource.setReadOnly(true); // 레플리카에 쓰기 SQL 이 실행되지 않도록
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                               @Value("${jpa-advance.datasource.replica.max-lag:5s}") Duration maxLag,
+                                               @Value("${jpa-advance.datasource.replica.lag-query:}") String lagQuery) {
+        return new ReplicaLagMonitor(replicaDataSource, maxLag, lagQuery);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                 ReplicaLagMonitor replicaLagMonitor) {
+        ReadWriteRoutingDataSource routingDataSource =
+                new ReadWriteRoutingDataSource(primaryDataSource, replicaDataSource, replicaLagMonitor);
+        routingDataSource.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
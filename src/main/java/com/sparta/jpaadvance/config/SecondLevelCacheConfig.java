@@ -0,0 +1,93 @@
+package com.sparta.jpaadvance.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.sparta.jpaadvance.entity.Food;
+import com.sparta.jpaadvance.entity.User;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+
+/*
+✅ Hibernate 2차 캐시(Second-level cache)를 JVM 내부의 Caffeine JCache 로 구성하는 설정 클래스
+
+    ➡️ 1차 캐시(영속성 컨텍스트)는 트랜잭션이 끝나면 사라지지만, 2차 캐시는 애플리케이션 전체에서 공유됨
+
+            - @Cacheable 이 붙은 Food, User 엔티티와 User.foodList 컬렉션을 캐시
+
+            - 캐시에 있는 엔티티는 findById 시 DB 를 조회하지 않음
+
+    ➡️ 캐시 영역(region)마다 최대 크기, TTL, 만료 방식을 application.properties 의 jpa-advance.cache.* 로 설정
+
+            - 최대 크기를 넘으면 Caffeine 이 자주 쓰이지 않는 항목부터 제거 (W-TinyLFU)
+
+            - expiry-policy=after-write : 저장 후 ttl 이 지나면 만료, after-access : 마지막 조회 후 ttl 이 지나면 만료
+
+    ➡️ 쿼리 캐시 : 쿼리 결과(엔티티 id 목록)를 저장하는 영역과, 테이블별 마지막 변경 시각을 저장하는 영역을 함께 구성
+
+            - 테이블이 변경되면 그 테이블을 사용한 캐시된 쿼리 결과는 무효화됨
+
+            - 변경 시각 영역이 먼저 만료/제거되면 오래된 쿼리 결과가 사용될 수 있으므로 만료 없이 구성
+ */
+
+@Configuration
+public class SecondLevelCacheConfig {
+
+    // Hibernate 가 사용하는 캐시 영역 이름 (엔티티는 클래스 이름, 컬렉션은 "클래스 이름.필드 이름")
+    public static final String FOOD_REGION = Food.class.getName();
+    public static final String USER_REGION = User.class.getName();
+    public static final String USER_FOOD_LIST_REGION = User.class.getName() + ".foodList";
+    public static final String USERS_BY_NAME_REGION = "users-by-name"; // UserRepository.findByName 의 쿼리 캐시 영역
+
+    private static final List<String> REGIONS = List.of(FOOD_REGION, USER_REGION, USER_FOOD_LIST_REGION,
+            USERS_BY_NAME_REGION, RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME);
+
+    // 컨텍스트마다 별도의 CachingProvider 를 사용하여 테스트처럼 여러 컨텍스트가 떠 있어도 캐시가 섞이지 않도록 함
+    @Bean(destroyMethod = "close")
+    public CaffeineCachingProvider secondLevelCachingProvider() {
+        return new CaffeineCachingProvider();
+    }
+
+    @Bean
+    public CacheManager secondLevelCacheManager(CaffeineCachingProvider secondLevelCachingProvider,
+                                                @Value("${jpa-advance.cache.ttl:10m}") Duration ttl,
+                                                @Value("${jpa-advance.cache.max-size:10000}") long maxSize,
+                                                @Value("${jpa-advance.cache.expiry-policy:after-write}") String expiryPolicy) {
+        CacheManager cacheManager = secondLevelCachingProvider.getCacheManager();
+        for (String region : REGIONS) {
+            cacheManager.createCache(region, regionConfiguration(ttl, maxSize, expiryPolicy));
+        }
+
+        // 테이블별 변경 시각은 만료되거나 제거되지 않아야 함
+        CaffeineConfiguration<Object, Object> timestampsConfiguration = new CaffeineConfiguration<>();
+        timestampsConfiguration.setStatisticsEnabled(true);
+        cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, timestampsConfiguration);
+        return cacheManager;
+    }
+
+    // Hibernate 가 Spring 이 만든 CacheManager 를 사용하도록 전달
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager secondLevelCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+    }
+
+    private static CaffeineConfiguration<Object, Object> regionConfiguration(Duration ttl, long maxSize, String expiryPolicy) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maxSize));
+        switch (expiryPolicy) {
+            case "after-write" -> configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+            case "after-access" -> configuration.setExpireAfterAccess(OptionalLong.of(ttl.toNanos()));
+            default -> throw new IllegalArgumentException("지원하지 않는 jpa-advance.cache.expiry-policy : " + expiryPolicy);
+        }
+        configuration.setStatisticsEnabled(true);
+        return configuration;
+    }
+}
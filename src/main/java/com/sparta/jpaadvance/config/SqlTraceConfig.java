@@ -0,0 +1,88 @@
+package com.sparta.jpaadvance.config;
+
+import com.sparta.jpaadvance.trace.SlowQueryLogger;
+import com.sparta.jpaadvance.trace.SqlTraceEndpoint;
+import com.sparta.jpaadvance.trace.SqlTraceRecorder;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/*
+✅ JDBC 수준에서 SQL 을 기록하는 설정 클래스 (show_sql 대체)
+
+    ➡️ 커넥션 풀(DataSource)을 datasource-proxy 의 ProxyDataSource 로 감싸서
+       Hibernate, JdbcTemplate(BulkInsertRepository) 가 실행하는 모든 SQL 을 SqlTraceRecorder 에 전달
+
+    ➡️ application.properties 의 jpa-advance.sql-trace.* 로 설정, enabled=false 면 DataSource 를 감싸지 않음
+
+            - buffer-size : 링 버퍼에 보관할 최근 SQL 수
+
+            - slow-query-threshold : 이 시간 이상 걸린 SQL 은 느린 쿼리 로그로 남김
+
+            - slow-query-queue-size : 출력을 기다리는 느린 쿼리 로그의 최대 수 (넘으면 버림)
+
+            - select-row-count : SELECT 결과를 ResultSet 프록시로 감싸 읽은 행 수를 기록
+                                 (ResultSet 메서드 호출마다 프록시를 거치므로, 끄면 SELECT 의 행 수는 -1)
+ */
+
+@Configuration
+@ConditionalOnProperty(name = "jpa-advance.sql-trace.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlTraceConfig {
+
+    @Bean(destroyMethod = "close")
+    public SlowQueryLogger slowQueryLogger(@Value("${jpa-advance.sql-trace.slow-query-queue-size:1000}") int queueSize) {
+        return new SlowQueryLogger(queueSize);
+    }
+
+    @Bean
+    public SqlTraceRecorder sqlTraceRecorder(@Value("${jpa-advance.sql-trace.buffer-size:1000}") int bufferSize,
+                                             @Value("${jpa-advance.sql-trace.slow-query-threshold:500ms}") Duration slowQueryThreshold,
+                                             SlowQueryLogger slowQueryLogger) {
+        return new SqlTraceRecorder(bufferSize, slowQueryThreshold, slowQueryLogger);
+    }
+
+    @Bean
+    public SqlTraceEndpoint sqlTraceEndpoint(SqlTraceRecorder sqlTraceRecorder) {
+        return new SqlTraceEndpoint(sqlTraceRecorder);
+    }
+
+    // BeanPostProcessor 는 다른 빈보다 먼저 만들어지므로 static 으로 등록하고 SqlTraceRecorder 는 DataSource 를 감쌀 때 조회
+    @Bean
+    public static BeanPostProcessor sqlTraceDataSourcePostProcessor(ObjectProvider<SqlTraceRecorder> sqlTraceRecorder,
+                                                                    Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && isConnectionSource(dataSource)) {
+                    SqlTraceRecorder recorder = sqlTraceRecorder.getObject();
+                    ProxyDataSourceBuilder builder = ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .listener(recorder);
+                    if (environment.getProperty("jpa-advance.sql-trace.select-row-count", Boolean.class, true)) {
+                        builder.proxyResultSet(recorder.resultSetProxyLogicFactory());
+                    }
+                    return builder.build();
+                }
+                return bean;
+            }
+        };
+    }
+
+    // 커넥션을 직접 만드는 DataSource 만 감쌈 (라우팅/지연 프록시까지 감싸면 같은 SQL 이 두 번 기록됨)
+    private static boolean isConnectionSource(DataSource dataSource) {
+        return !(dataSource instanceof ProxyDataSource)
+                && !(dataSource instanceof DelegatingDataSource)
+                && !(dataSource instanceof AbstractRoutingDataSource);
+    }
+}
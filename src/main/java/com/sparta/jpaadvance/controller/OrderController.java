@@ -0,0 +1,143 @@
+package com.sparta.jpaadvance.controller;
+
+import com.sparta.jpaadvance.dto.OrderPage;
+import com.sparta.jpaadvance.dto.OrderRequest;
+import com.sparta.jpaadvance.dto.OrderSummary;
+import com.sparta.jpaadvance.ingest.OrderIngestionQueue;
+import com.sparta.jpaadvance.service.OrderExportService;
+import com.sparta.jpaadvance.service.OrderQueryService;
+import com.sparta.jpaadvance.service.OrderService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.RejectedExecutionException;
+
+/*
+✅ 주문 관련 REST API
+
+    ➡️ GET /api/orders?size=20&cursor=... : 최신순 주문 목록 (키셋 페이지네이션, 응답의 nextCursor 로 다음 페이지 조회)
+
+    ➡️ POST /api/orders {"userId":1,"foodId":2} : 주문 생성, 201 Created 와 생성된 주문 (Location : /api/orders/{id})
+
+    ➡️ POST /api/orders/async {"userId":1,"foodId":2} : 주문을 대기열에 넣고 바로 202 Accepted (OrderIngestionQueue 가 모아서 저장)
+
+            - 대기열이 가득 차서 거절되면 503 과 Retry-After
+
+            - 대기열이 가득 차서 요청 스레드가 직접 저장하다(CALLER_RUNS) 없는 회원, 음식으로 실패하면 409
+
+    ➡️ GET /api/orders/{id} : 주문 한 건 조회, 없으면 404
+
+    ➡️ GET /api/orders/users/{userId}?from=2025-01-01&to=2025-01-31 : 회원의 기간 내 주문 (기간은 최대 366일, 넘으면 400)
+
+    ➡️ GET /api/orders/export?format=csv|json : 전체 주문을 스트리밍으로 내려받음
+
+            - StreamingResponseBody 는 응답 스트림에 바로 쓰므로 전체 주문을 메모리에 모으지 않음
+ */
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/orders")
+public class OrderController {
+
+    private final OrderExportService orderExportService;
+    private final OrderQueryService orderQueryService;
+    private final OrderService orderService;
+    private final OrderIngestionQueue orderIngestionQueue;
+
+    @PostMapping
+    public ResponseEntity<OrderSummary> placeOrder(@RequestBody OrderRequest request) {
+        OrderSummary order = orderService.placeOrder(request.userId(), request.foodId());
+        return ResponseEntity.created(URI.create("/api/orders/" + order.orderId())).body(order);
+    }
+
+    @PostMapping("/async")
+    public ResponseEntity<Void> placeOrderAsync(@RequestBody OrderRequest request) {
+        orderIngestionQueue.submit(request.userId(), request.foodId());
+        return ResponseEntity.accepted().build();
+    }
+
+    @GetMapping("/{id}")
+    public OrderSummary getOrder(@PathVariable Long id) {
+        return orderService.findOrder(id);
+    }
+
+    @GetMapping
+    public OrderPage getOrders(@RequestParam(required = false) String cursor,
+                               @RequestParam(defaultValue = "20") int size) {
+        return orderQueryService.findOrders(cursor, size);
+    }
+
+    @GetMapping("/users/{userId}")
+    public List<OrderSummary> getOrdersOfUser(@PathVariable Long userId,
+                                              @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                              @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return orderQueryService.findOrdersOfUser(userId, from, to);
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam(defaultValue = "csv") String format) {
+        if (format.equals("json")) {
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"orders.json\"")
+                    .body(orderExportService::exportJson);
+        }
+        if (format.equals("csv")) {
+            return ResponseEntity.ok()
+                    .contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"orders.csv\"")
+                    .body(outputStream -> {
+                        Writer writer = new OutputStreamWriter(outputStream, StandardCharsets.UTF_8);
+                        orderExportService.exportCsv(writer);
+                    });
+        }
+        return ResponseEntity.badRequest().build();
+    }
+
+    // 잘못된 cursor, size 등 요청 값 오류는 400 으로 응답
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> handleIllegalArgument(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+
+    // 없는 주문, 회원, 음식은 404 로 응답
+    @ExceptionHandler(NoSuchElementException.class)
+    public ResponseEntity<String> handleNoSuchElement(NoSuchElementException e) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+    }
+
+    // 저장할 수 없는 주문(없는 회원, 음식 등)은 409 로 응답
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<String> handleDataIntegrityViolation(DataIntegrityViolationException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+    }
+
+    // 주문 대기열이 가득 차면 503, 잠시 후 재시도하도록 Retry-After 를 함께 보냄
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<String> handleRejected(RejectedExecutionException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(e.getMessage());
+    }
+}
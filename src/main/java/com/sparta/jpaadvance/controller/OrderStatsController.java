@@ -0,0 +1,36 @@
+package com.sparta.jpaadvance.controller;
+
+import com.sparta.jpaadvance.entity.FoodOrderStats;
+import com.sparta.jpaadvance.entity.UserOrderStats;
+import com.sparta.jpaadvance.service.OrderStatsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/*
+✅ 주문 통계 REST API (대시보드용)
+
+    ➡️ GET /api/stats/users/{userId} : 회원의 주문 수, 주문 금액 합계, 마지막 주문일
+
+    ➡️ GET /api/stats/foods/{foodId} : 음식의 주문 수, 매출 합계, 마지막 주문일
+ */
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/stats")
+public class OrderStatsController {
+
+    private final OrderStatsService orderStatsService;
+
+    @GetMapping("/users/{userId}")
+    public UserOrderStats getUserStats(@PathVariable Long userId) {
+        return orderStatsService.findUserStats(userId);
+    }
+
+    @GetMapping("/foods/{foodId}")
+    public FoodOrderStats getFoodStats(@PathVariable Long foodId) {
+        return orderStatsService.findFoodStats(foodId);
+    }
+}
@@ -0,0 +1,41 @@
+package com.sparta.jpaadvance.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/*
+✅ 읽기 전용 트랜잭션은 레플리카로, 나머지는 프라이머리로 보내는 DataSource
+
+    ➡️ @Transactional(readOnly = true) 가 붙은 서비스 메서드와 Spring Data JPA 의 조회 메서드
+       (SimpleJpaRepository 가 클래스 수준에 readOnly = true 를 선언하므로 findById, findByName 같은 쿼리 메서드 포함)
+
+    ➡️ 레플리카 복제 지연이 허용 범위를 넘으면(ReplicaLagMonitor) 읽기 전용 트랜잭션도 프라이머리 사용
+
+    ➡️ 트랜잭션의 readOnly 여부는 트랜잭션 시작 후에 설정되므로, 실제 커넥션은
+       LazyConnectionDataSourceProxy 로 감싸서 첫 SQL 을 실행할 때 얻도록 해야 함 (RoutingDataSourceConfig)
+ */
+
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+    public static final String REPLICA = "replica";
+
+    private final ReplicaLagMonitor replicaLagMonitor;
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor replicaLagMonitor) {
+        this.replicaLagMonitor = replicaLagMonitor;
+        setTargetDataSources(Map.of(PRIMARY, primary, REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && replicaLagMonitor.isReplicaAvailable()) {
+            return REPLICA;
+        }
+        return PRIMARY;
+    }
+}
@@ -0,0 +1,86 @@
+package com.sparta.jpaadvance.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+
+/*
+✅ 레플리카의 복제 지연을 주기적으로 확인하는 클래스
+
+    ➡️ 복제 지연이 maxLag 를 넘거나, 확인에 실패하거나, 복제가 멈춘 경우 레플리카를 사용하지 않음
+       (ReadWriteRoutingDataSource 가 읽기 전용 트랜잭션도 프라이머리로 보냄)
+
+    ➡️ 지연 시간(초)을 구하는 쿼리
+
+            - 기본 : MySQL SHOW REPLICA STATUS 의 Seconds_Behind_Source (복제가 멈추면 NULL)
+
+            - lagQuery 를 지정하면 그 쿼리의 결과 (heartbeat 테이블을 사용하는 경우, 테스트용 H2 등)
+
+    ➡️ 첫 확인에 성공하기 전까지는 레플리카를 사용하지 않음
+
+    📢 주문 보관, 통계 재집계 같은 오래 걸리는 @Scheduled 작업이 실행 중이어도 확인이 밀리지 않도록
+       스케줄러 스레드를 여러 개 사용 (spring.task.scheduling.pool.size)
+ */
+
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final Duration maxLag;
+    private final String lagQuery;
+
+    private volatile boolean replicaAvailable;
+    private volatile long lagSeconds = -1;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, Duration maxLag, String lagQuery) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+        this.maxLag = maxLag;
+        this.lagQuery = lagQuery;
+    }
+
+    @Scheduled(fixedDelayString = "${jpa-advance.datasource.replica.lag-check-interval:PT5S}")
+    public void check() {
+        boolean available;
+        try {
+            Long lag = currentLagSeconds();
+            lagSeconds = lag != null ? lag : -1;
+            available = lag != null && lag <= maxLag.toSeconds();
+        } catch (DataAccessException e) {
+            log.warn("replica lag check failed : {}", e.getMessage());
+            lagSeconds = -1;
+            available = false;
+        }
+
+        if (available != replicaAvailable) {
+            log.warn("replica {} (lag={}s, max={}s)", available ? "enabled" : "disabled, reads go to primary",
+                    lagSeconds, maxLag.toSeconds());
+        }
+        replicaAvailable = available;
+    }
+
+    public boolean isReplicaAvailable() {
+        return replicaAvailable;
+    }
+
+    // 마지막으로 확인한 복제 지연(초), 알 수 없으면 -1
+    public long getLagSeconds() {
+        return lagSeconds;
+    }
+
+    private Long currentLagSeconds() {
+        if (StringUtils.hasText(lagQuery)) {
+            return replicaJdbcTemplate.queryForObject(lagQuery, Long.class);
+        }
+        List<Long> lags = replicaJdbcTemplate.query("show replica status", (rs, rowNum) -> {
+            long lag = rs.getLong("Seconds_Behind_Source");
+            return rs.wasNull() ? null : lag;
+        });
+        return lags.isEmpty() ? null : lags.get(0); // 복제 설정이 없는 서버
+    }
+}
@@ -0,0 +1,12 @@
+package com.sparta.jpaadvance.dto;
+
+/*
+✅ 음식 목록 조회용 읽기 전용 DTO
+
+    ➡️ 쿼리 결과를 엔티티가 아닌 DTO 로 바로 받으므로 영속성 컨텍스트에 등록되지 않음
+
+            - 스냅샷 저장, flush 시점의 변경 감지(dirty checking) 비용이 없음
+ */
+
+public record FoodSummary(Long id, String name, double price) {
+}
@@ -0,0 +1,34 @@
+package com.sparta.jpaadvance.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/*
+✅ 주문 키셋 페이지네이션의 다음 페이지 위치 (이전 페이지 마지막 주문의 orderDate, id)
+
+    ➡️ 클라이언트에는 "orderDate|id" 를 Base64(URL-safe) 로 인코딩한 문자열(continuation token)로 전달
+ */
+
+public record OrderCursor(LocalDateTime orderDate, Long id) {
+
+    public static OrderCursor of(OrderSummary order) {
+        return new OrderCursor(order.orderDate(), order.orderId());
+    }
+
+    public String encode() {
+        String raw = orderDate + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static OrderCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('|');
+            return new OrderCursor(LocalDateTime.parse(raw.substring(0, separator)), Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 cursor 입니다 : " + token, e);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.sparta.jpaadvance.dto;
+
+import java.util.List;
+
+/*
+✅ 주문 키셋 페이지 응답
+
+    ➡️ nextCursor 를 다음 요청의 cursor 로 전달하면 다음 페이지를 조회, 마지막 페이지이면 null
+ */
+
+public record OrderPage(List<OrderSummary> content, String nextCursor) {
+}
@@ -0,0 +1,10 @@
+package com.sparta.jpaadvance.dto;
+
+/*
+✅ 주문 생성 요청 (POST /api/orders)
+
+    ➡️ 주문할 회원 id 와 음식 id
+ */
+
+public record OrderRequest(Long userId, Long foodId) {
+}
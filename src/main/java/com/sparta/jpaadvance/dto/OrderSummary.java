@@ -0,0 +1,22 @@
+package com.sparta.jpaadvance.dto;
+
+import java.time.LocalDateTime;
+
+/*
+✅ 주문 목록 조회용 읽기 전용 DTO
+
+    ➡️ 주문, 사용자, 음식에서 목록에 필요한 컬럼만 JPQL 생성자 표현식(select new ...)으로 조회
+
+    ➡️ Order, User, Food 엔티티를 만들지 않으므로 영속성 컨텍스트와 지연 로딩 프록시가 사용되지 않음
+
+    ➡️ price 는 주문 시점 금액(Order.amount), 이후 음식 가격이 바뀌어도 그대로
+ */
+
+public record OrderSummary(Long orderId,
+                           Long userId,
+                           String userName,
+                           Long foodId,
+                           String foodName,
+                           double price,
+                           LocalDateTime orderDate) {
+}
@@ -3,6 +3,8 @@ package com.sparta.jpaadvance.entity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -18,7 +20,12 @@ import java.util.List;
 @Entity // JPA 엔티티 클래스임을 나타내는 어노테이션
 @Getter
 @Setter
-@Table(name = "food") // DB에서 매핑할 테이블의 이름을 지정
+@Table(name = "food", indexes = @Index(name = "idx_food_user_id", columnList = "user_id")) // DB에서 매핑할 테이블의 이름을 지정 (테이블, 인덱스는 db/migration 에서 생성)
+// 음식과 함께 주문한 회원 정보가 필요한 조회에서 사용할 fetch plan, FoodRepository 의 @EntityGraph("Food.user") 로 사용
+@NamedEntityGraph(name = "Food.user", attributeNodes = @NamedAttributeNode("user"))
+// 음식(이름, 가격)은 자주 조회되고 드물게 바뀌는 데이터이므로 2차 캐시에 저장, 수정 시 캐시도 함께 갱신(READ_WRITE)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Food {
     @Id //음식 객체의 고유 식별자로, 자동으로 생성되며 기본 키 역할을 함
 
@@ -29,11 +36,16 @@ public class Food {
     private String name;  // 음식의 이름
     private double price;  // 음식의 가격
 
+    // 낙관적 락 버전 : 가격 변경 등 수정할 때마다 증가, 다른 트랜잭션이 먼저 수정했으면 커밋할 때 ObjectOptimisticLockingFailureException
+    // JPQL 벌크 update 는 버전을 직접 증가시킴 (FoodRepository.updatePriceByRate)
+    @Version
+    private Long version;
+
     // 지연 로딩 테스트를 위한 예제로 다대일 양방향 관계로 전환
-    @ManyToOne
-    // @ManyToOne(fetch = FetchType.LAZY) // FetchType을 인위적으로 수정 하여 지연 로딩으로 설정,
-    // 📢 오류 발생 원인은 지연 로딩이 된 엔티티의 정보 조화를 위해서는 반드시 영속성 컨텍스트가 존재해야 함
+    @ManyToOne(fetch = FetchType.LAZY) // 음식만 조회할 때 회원까지 함께 조회하지 않도록 지연 로딩으로 설정
+    // 📢 지연 로딩이 된 엔티티의 정보 조회를 위해서는 반드시 영속성 컨텍스트가 존재해야 함, 없으면 LazyInitializationException 발생
     // 영속성 컨텍스트가 존재해야 한다는 의미는 스프링 컨테이너 환경에서는 트랜잭션이 적용되어 있어야 한다는 의미와 동일
+    // 트랜잭션 밖에서 회원 정보가 필요하면 "Food.user" 엔티티 그래프로 함께 조회 (FoodRepository.findWithUserById)
     @JoinColumn(name = "user_id")
     private User user;
 
@@ -0,0 +1,31 @@
+package com.sparta.jpaadvance.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/*
+✅ 음식별 주문 통계, DB 테이블 food_order_stats 와 매핑 (food_id 당 한 행)
+
+    ➡️ 음식이 몇 번 주문되었고 매출이 얼마인지를 기본 키 조회 한 번으로 응답
+ */
+
+@Entity
+@Getter
+@Table(name = "food_order_stats")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class FoodOrderStats extends OrderStats {
+
+    @Id  // 음식 id 를 그대로 기본 키로 사용 (외래 키는 만들지 않음)
+    @Column(name = "food_id")
+    private Long foodId;
+
+    // 주문이 없는 음식의 통계 (모든 값 0)
+    public FoodOrderStats(Long foodId) {
+        this.foodId = foodId;
+    }
+}
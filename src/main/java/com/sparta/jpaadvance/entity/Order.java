@@ -20,30 +20,67 @@ import java.time.LocalDateTime;
             - 각 Order는 하나의 User와 하나의 Food를 참조하여, User와 Food 사이의 다대다 관계를 일대다, 다대일 관계로 분해.
 
             - 이 방식으로, 'Order' 엔티티는 'User'와 'Food' 사이의 다대다 관계를 효과적으로 관리, 추가적인 관계 데이터를 저장.
+
+    📢 주문일(order_date) 기준 파티셔닝 :
+
+            - MySQL 에서는 마이그레이션(db/migration/mysql/V3__partition_orders_by_order_date.sql)으로 orders 를 order_date 월 단위 RANGE 파티션 테이블로 전환
+
+            - 파티션 테이블은 외래 키를 가질 수 없으므로 MySQL 의 orders 에는 food_id, user_id 외래 키가 없음
+              (V3 에서 삭제, 파티션하지 않는 H2 에서는 db/migration/common/V1__create_tables.sql 의 외래 키를 유지)
+
+            - 외래 키가 없는 MySQL 의 참조 무결성은 애플리케이션에서 확인
+              (OrderService.placeOrder, BulkInsertRepository.saveAllOrders 는 회원, 음식이 있는지, FoodService.deleteFoodsOfUser 는 주문이 없는지)
+              모두 확인하는 회원, 음식 행을 잠가서 확인과 INSERT/DELETE 사이에 다른 트랜잭션이 끼어들지 못하도록 함
+              (주문 저장은 공유 잠금 FOR SHARE, 음식 삭제는 FOR UPDATE)
+
+            - 파티션 테이블의 기본 키는 파티션 키를 포함해야 하므로 DB 에서는 (id, order_date), 엔티티는 그대로 id 로 식별 (AUTO_INCREMENT 로 유일)
+
+            - 오래된 주문은 OrderArchiveService 가 orders_archive 테이블로 옮김
+
+    📢 주문 금액(amount) : 주문할 때의 음식 가격을 저장하므로 이후 음식 가격이 바뀌어도 주문 통계의 금액이 달라지지 않음
  */
 
 
 @Entity  // 이 클래스가 JPA 엔티티임을 나타냄
 @Getter
 @Setter
-@Table(name = "orders")  // 이 엔티티가 매핑될 데이터베이스 테이블의 이름을 "orders"로 지정
-@EntityListeners(AuditingEntityListener.class)  // 엔티티의 생명주기 이벤트를 리스닝하여 자동으로 생성일을 기록
+@Table(name = "orders",  // 이 엔티티가 매핑될 데이터베이스 테이블의 이름을 "orders"로 지정
+        indexes = {
+                // 주문일 최신순 키셋 페이지네이션(OrderRepository.findSummaryBefore)이 인덱스 탐색으로 시작 위치를 찾도록 (order_date, id) 복합 인덱스 생성
+                @Index(name = "idx_orders_order_date_id", columnList = "order_date, id"),
+                // MySQL 에는 외래 키가 없으므로 회원, 음식으로 찾는 인덱스를 직접 생성 (회원의 기간별 주문 조회 : findSummaryByUserIdAndPeriod)
+                @Index(name = "idx_orders_user_id_order_date", columnList = "user_id, order_date"),
+                @Index(name = "idx_orders_food_id", columnList = "food_id")
+        })
+// 엔티티의 생명주기 이벤트를 리스닝하여 자동으로 생성일을 기록하고, 저장/삭제 시 주문 통계를 갱신 (OrderStatsListener)
+@EntityListeners({AuditingEntityListener.class, OrderStatsListener.class})
+// 주문과 함께 음식, 사용자 정보가 필요한 조회에서 사용할 fetch plan, OrderRepository 의 @EntityGraph("Order.foodAndUser") 로 사용
+@NamedEntityGraph(name = "Order.foodAndUser", attributeNodes = {
+        @NamedAttributeNode("food"),
+        @NamedAttributeNode("user")
+})
 public class Order {
 
     @Id  // 이 필드가 엔티티의 기본 키임을 명시
     @GeneratedValue(strategy = GenerationType.IDENTITY)  // 기본 키 값을 자동으로 생성하는 전략을 지정
     private Long id;  // 주문의 고유 ID
 
-    @ManyToOne  // 다대일 관계를 정의, 여러 주문이 하나의 음식을 가리킬 수 있음
-    @JoinColumn(name = "food_id")  // 외래 키 열의 이름을 "food_id"로 지정
+    @ManyToOne(fetch = FetchType.LAZY)  // 다대일 관계를 정의, 여러 주문이 하나의 음식을 가리킬 수 있음 (주문 조회 시 음식은 지연 로딩)
+    @JoinColumn(name = "food_id", foreignKey = @ForeignKey(name = "fk_orders_food_id"))  // 외래 키 열의 이름을 "food_id"로 지정 (MySQL 파티션 테이블에는 외래 키 없음)
     private Food food;  // 주문과 관련된 음식 엔티티
 
-    @ManyToOne  // 다대일 관계를 정의, 여러 주문이 하나의 사용자를 가리킬 수 있음
-    @JoinColumn(name = "user_id")  // 외래 키 열의 이름을 "user_id"로 지정
+    @ManyToOne(fetch = FetchType.LAZY)  // 다대일 관계를 정의, 여러 주문이 하나의 사용자를 가리킬 수 있음 (주문 조회 시 사용자는 지연 로딩)
+    @JoinColumn(name = "user_id", foreignKey = @ForeignKey(name = "fk_orders_user_id"))  // 외래 키 열의 이름을 "user_id"로 지정 (MySQL 파티션 테이블에는 외래 키 없음)
     private User user;  // 주문과 관련된 사용자 엔티티
 
     // 중간 테이블 Order 주문일 추가
     @CreatedDate  // 엔티티가 생성될 때 자동으로 날짜와 시간이 기록되도록
     @Temporal(TemporalType.TIMESTAMP)  // 날짜와 시간을 TIMESTAMP 형식으로 지정
+    @Column(name = "order_date", nullable = false)  // 파티션 키이므로 항상 값이 있어야 함
     private LocalDateTime orderDate;  // 주문이 생성된 날짜와 시간
+
+    // 주문할 때의 음식 가격, 음식 가격이 바뀌어도 그대로 남아 주문 통계의 금액 계산에 사용
+    // 비어 있으면 저장할 때 채움 (JPA : OrderStatsListener, JDBC 배치 : BulkInsertRepository.saveAllOrders)
+    @Column(name = "amount", nullable = false)
+    private Double amount;
 }
\ No newline at end of file
@@ -0,0 +1,52 @@
+package com.sparta.jpaadvance.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/*
+✅ 보관 기간이 지난 주문을 옮겨 두는 DB 테이블 orders_archive 와 매핑되는 엔티티
+
+    ➡️ OrderArchiveService 가 orders 에서 오래된 주문을 배치 단위로 옮김 (orders 의 행 수와 인덱스 크기를 일정하게 유지)
+
+    ➡️ 주문 id 를 그대로 기본 키로 사용하고, 회원, 음식은 연관 관계 없이 id 만 저장 (거의 조회하지 않는 데이터)
+
+    📢 주문 통계(user_order_stats, food_order_stats)는 옮긴 주문도 포함 (재집계 시 orders 와 orders_archive 를 함께 집계)
+ */
+
+@Entity
+@Getter
+@Table(name = "orders_archive",
+        indexes = {
+                @Index(name = "idx_orders_archive_user_id_order_date", columnList = "user_id, order_date"),
+                // 음식 삭제 전 참조 확인 (FoodService.deleteFoodsOfUser)
+                @Index(name = "idx_orders_archive_food_id", columnList = "food_id")
+        })
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OrderArchive {
+
+    @Id  // 원래 주문의 id
+    private Long id;
+
+    @Column(name = "food_id")
+    private Long foodId;
+
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "order_date", nullable = false)
+    private LocalDateTime orderDate;
+
+    @Column(name = "amount", nullable = false)
+    private double amount;  // 주문할 때의 음식 가격 (Order.amount)
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;  // orders_archive 로 옮긴 시각
+}
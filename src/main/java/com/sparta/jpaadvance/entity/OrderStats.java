@@ -0,0 +1,23 @@
+package com.sparta.jpaadvance.entity;
+
+import jakarta.persistence.MappedSuperclass;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/*
+✅ 주문 통계 테이블(user_order_stats, food_order_stats)의 공통 컬럼
+
+    ➡️ 주문 수, 주문 금액 합계(주문 행에 저장된 주문 시점 가격 Order.amount 의 합), 마지막 주문일
+
+    ➡️ 값은 OrderStatsJdbcRepository 가 SQL 로 직접 증감하므로 엔티티는 조회에만 사용 (setter 없음)
+ */
+
+@Getter
+@MappedSuperclass
+public abstract class OrderStats {
+
+    private long orderCount;  // 주문 수
+    private double totalAmount;  // 주문 금액 합계
+    private LocalDateTime lastOrderDate;  // 마지막 주문일 (주문 삭제 시에는 다시 계산하지 않고 재집계 때 맞춰짐)
+}
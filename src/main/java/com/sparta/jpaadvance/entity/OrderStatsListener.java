@@ -0,0 +1,53 @@
+package com.sparta.jpaadvance.entity;
+
+import com.sparta.jpaadvance.repository.OrderStatsJdbcRepository;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PrePersist;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.List;
+
+/*
+✅ Order 가 JPA 로 저장/삭제될 때 주문 통계(user_order_stats, food_order_stats)를 함께 갱신하는 엔티티 리스너
+
+    ➡️ Order 의 @EntityListeners 에 AuditingEntityListener 와 함께 등록
+
+    ➡️ Spring Boot 는 Hibernate 가 엔티티 리스너를 Spring 빈처럼 만들도록 설정하므로 생성자로 의존성을 주입받을 수 있음
+
+    ➡️ @PrePersist : 주문 금액(amount)이 비어 있으면 주문한 음식의 지금 가격으로 채움
+
+    ➡️ @PostPersist : IDENTITY 전략이라 persist 시점에 INSERT 가 실행된 직후 호출됨
+
+    ➡️ @PostRemove : flush 할 때 DELETE 가 실행된 직후 호출됨
+
+    📢 콜백 안에서는 EntityManager 나 지연 로딩을 사용하지 않고 JdbcTemplate 으로만 갱신 (같은 트랜잭션, 같은 커넥션)
+
+    📢 JPQL 벌크 삭제, deleteAllInBatch, JDBC 로 직접 변경한 주문은 콜백이 호출되지 않으므로 재집계로 맞춤
+ */
+
+public class OrderStatsListener {
+
+    private final ObjectProvider<OrderStatsJdbcRepository> orderStatsJdbcRepository;
+
+    public OrderStatsListener(ObjectProvider<OrderStatsJdbcRepository> orderStatsJdbcRepository) {
+        this.orderStatsJdbcRepository = orderStatsJdbcRepository;
+    }
+
+    @PrePersist
+    public void prePersist(Order order) {
+        if (order.getAmount() == null) {
+            order.setAmount(order.getFood() == null ? 0 : order.getFood().getPrice());
+        }
+    }
+
+    @PostPersist
+    public void postPersist(Order order) {
+        orderStatsJdbcRepository.getObject().addOrders(List.of(order));
+    }
+
+    @PostRemove
+    public void postRemove(Order order) {
+        orderStatsJdbcRepository.getObject().removeOrder(order);
+    }
+}
@@ -3,6 +3,9 @@ package com.sparta.jpaadvance.entity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -18,7 +21,10 @@ import java.util.List;
 @Entity // JPA 엔티티 클래스임을 나타내는 어노테이션
 @Getter
 @Setter
-@Table(name = "users") // DB에서 매핑할 테이블의 이름을 지정
+// DB에서 매핑할 테이블의 이름을 지정, findByName 조회가 테이블 전체를 스캔하지 않도록 name 컬럼에 인덱스 생성
+@Table(name = "users", indexes = @Index(name = "idx_users_name", columnList = "name"))
+@Cacheable // 2차 캐시에 저장
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class User {
     @Id // 사용자 객체의 고유 식별자로, 자동으로 생성되며 기본 키 역할을 함
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -26,6 +32,11 @@ public class User {
 
     private String name;  // 사용자의 이름
 
+    // 낙관적 락 버전 : 수정할 때마다 증가, 다른 트랜잭션이 먼저 수정했으면 커밋할 때 ObjectOptimisticLockingFailureException
+    // foodList 는 음식(Food.user)이 관리하므로 음식을 추가할 때는 OPTIMISTIC_FORCE_INCREMENT 로 직접 증가 (FoodService.addFood)
+    @Version
+    private Long version;
+
     // 지연 로딩 테스트를 위한 예제로 다대일 양방향 관계로 전환
     /*
     @OneToMany(mappedBy = "user"): User 엔티티 클래스에서 Food 엔티티와의 양방향 일대다 관계를 정의
@@ -57,12 +68,21 @@ public class User {
             ✔️ CascadeType.REMOVE 와 orphanRemoval 은 반드시 개발 작업 중 다른 곳에 영향을 주는지 안 주는지 고려하고 설정하는것!
     */
 
+    // 여러 User 의 foodList 를 순회할 때는 hibernate.default_batch_fetch_size 만큼 묶어서 한 번에 초기화 (application.properties)
+    // 컬렉션 캐시에는 Food 의 id 목록만 저장되고, 각 Food 는 Food 엔티티 캐시에서 조회
     @OneToMany(mappedBy = "user", cascade = CascadeType.PERSIST, orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     private List<Food> foodList = new ArrayList<>();
 
     // Food 엔티티를 foodList에 추가하고, 해당 Food 엔티티의 user 필드에 자신을 설정하는 메서드
+    // 바이트코드 향상(연관 관계 관리)이 적용되면 food.setUser 가 foodList 에도 추가하므로 이미 있으면 다시 추가하지 않음
+    // (foodList 에 먼저 추가하면 setUser 가 컬렉션을 초기화하면서 저장 전 Food 를 컬렉션 캐시에 넣으려다 실패하므로 외래 키부터 설정)
+    // 향상 없이 빌드하면(-PnoEnhance) 아직 초기화되지 않은 foodList 는 contains 로 전체를 조회하지 않고 바로 추가
+    // (PersistentBag 이 추가를 모아 두었다가 반영, 향상이 적용되면 setUser 에서 이미 초기화됨)
     public void addFoodList(Food food) {
-        this.foodList.add(food);
         food.setUser(this); // 외래 키 설정
+        if (!Hibernate.isInitialized(this.foodList) || !this.foodList.contains(food)) {
+            this.foodList.add(food);
+        }
     }
 }
@@ -0,0 +1,33 @@
+package com.sparta.jpaadvance.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/*
+✅ 회원별 주문 통계, DB 테이블 user_order_stats 와 매핑 (user_id 당 한 행)
+
+    ➡️ "회원 X 가 몇 번, 얼마나 주문했나" 를 orders, food 조인 집계 없이 기본 키 조회 한 번으로 응답
+
+    ➡️ 주문이 추가/삭제될 때 OrderStatsListener, BulkInsertRepository 가 함께 갱신하고, OrderStatsService 가 주기적으로 재집계
+ */
+
+@Entity
+@Getter
+@Table(name = "user_order_stats")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UserOrderStats extends OrderStats {
+
+    @Id  // 회원 id 를 그대로 기본 키로 사용 (외래 키는 만들지 않음)
+    @Column(name = "user_id")
+    private Long userId;
+
+    // 주문이 없는 회원의 통계 (모든 값 0)
+    public UserOrderStats(Long userId) {
+        this.userId = userId;
+    }
+}
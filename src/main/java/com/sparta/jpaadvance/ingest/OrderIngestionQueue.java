@@ -0,0 +1,238 @@
+package com.sparta.jpaadvance.ingest;
+
+import com.sparta.jpaadvance.entity.Food;
+import com.sparta.jpaadvance.entity.Order;
+import com.sparta.jpaadvance.entity.User;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/*
+✅ 들어온 주문을 크기가 정해진 큐에 넣고, 별도 스레드가 모아서 한 번에 저장하는 비동기 주문 적재 큐
+
+    ➡️ 요청 스레드는 큐에 주문을 넣고 바로 돌아감 (주문 한 건마다 IDENTITY INSERT 로 DB 왕복하지 않음)
+
+    ➡️ order-ingestion 스레드가 큐에 쌓인 주문을 최대 batch-size 건씩 꺼내 writer(BulkInsertRepository.saveAllOrders)로 저장
+
+            - 배치 하나가 트랜잭션 하나, JDBC 배치 INSERT 로 저장 (MySQL 은 multi-row INSERT 로 재작성)
+
+            - 저장하는 동안 들어온 주문은 큐에 쌓였다가 다음 배치로 저장되므로, 주문이 몰릴수록 배치가 커짐
+
+            - 배치 저장이 실패하면(없는 회원/음식 등) 주문을 한 건씩 다시 저장하여 실패한 주문만 버리고 로그로 남김
+
+    ➡️ 큐가 가득 찼을 때 (overflow-policy)
+
+            - REJECT : RejectedExecutionException 을 던짐, 요청은 503 으로 거절 (클라이언트가 재시도)
+
+            - CALLER_RUNS : 요청 스레드가 그 주문을 직접 저장, 느려지지만 받은 주문은 버리지 않음 (자연스러운 backpressure)
+                            저장에 실패하면 예외를 그대로 던지므로 요청은 202 가 아닌 오류 응답을 받음
+
+    ➡️ 지표 (jpa-advance.order-ingestion.*)
+
+            - queue.size : 저장을 기다리는 주문 수
+
+            - submitted : 받은 주문 수 (result = queued / caller-runs / rejected)
+
+            - written : 저장한 주문 수 (result = success / failed)
+
+            - batch.size, batch : 배치 크기 분포, 배치 저장 시간
+
+    ➡️ close() 하면 더 이상 주문을 받지 않고, 큐에 남은 주문을 shutdown-timeout 동안 모두 저장한 뒤 종료
+
+    📢 큐는 메모리에 있으므로, 정상 종료가 아니라 프로세스가 죽으면 아직 저장되지 않은 주문은 사라짐
+       큐에 들어간 주문은 이미 202 로 응답했으므로 저장에 실패해도 로그와 written(result=failed) 지표로만 남음
+       주문을 절대 잃으면 안 되는 경우 동기 API(POST /api/orders)를 사용
+ */
+
+@Slf4j
+public class OrderIngestionQueue implements AutoCloseable {
+
+    public enum OverflowPolicy {
+        REJECT, CALLER_RUNS
+    }
+
+    private static final String METRIC_PREFIX = "jpa-advance.order-ingestion";
+
+    private final BlockingQueue<Order> queue;
+    private final int batchSize;
+    private final OverflowPolicy overflowPolicy;
+    private final Duration shutdownTimeout;
+    private final Consumer<List<Order>> writer;
+    private final Thread worker;
+    private volatile boolean running = true;
+
+    private final Counter queuedCounter;
+    private final Counter callerRunsCounter;
+    private final Counter rejectedCounter;
+    private final Counter writtenCounter;
+    private final Counter failedCounter;
+    private final DistributionSummary batchSizeSummary;
+    private final Timer batchTimer;
+
+    public OrderIngestionQueue(int capacity, int batchSize, OverflowPolicy overflowPolicy, Duration shutdownTimeout,
+                               Consumer<List<Order>> writer, MeterRegistry meterRegistry) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batch-size 는 1 이상이어야 합니다 : " + batchSize);
+        }
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.overflowPolicy = overflowPolicy;
+        this.shutdownTimeout = shutdownTimeout;
+        this.writer = writer;
+
+        Gauge.builder(METRIC_PREFIX + ".queue.size", queue, BlockingQueue::size).register(meterRegistry);
+        this.queuedCounter = meterRegistry.counter(METRIC_PREFIX + ".submitted", "result", "queued");
+        this.callerRunsCounter = meterRegistry.counter(METRIC_PREFIX + ".submitted", "result", "caller-runs");
+        this.rejectedCounter = meterRegistry.counter(METRIC_PREFIX + ".submitted", "result", "rejected");
+        this.writtenCounter = meterRegistry.counter(METRIC_PREFIX + ".written", "result", "success");
+        this.failedCounter = meterRegistry.counter(METRIC_PREFIX + ".written", "result", "failed");
+        this.batchSizeSummary = meterRegistry.summary(METRIC_PREFIX + ".batch.size");
+        this.batchTimer = meterRegistry.timer(METRIC_PREFIX + ".batch");
+
+        this.worker = new Thread(this::run, "order-ingestion");
+        this.worker.setDaemon(true); // 정상 종료 시에는 close() 에서 남은 주문을 저장
+        this.worker.start();
+    }
+
+    // 주문을 큐에 넣음, 주문일은 받은 시점으로 기록
+    // 큐가 가득 찼거나 종료 중이면 REJECT 는 RejectedExecutionException, CALLER_RUNS 는 호출한 스레드에서 바로 저장
+    // (CALLER_RUNS 로 저장하다 실패하면 writer 의 예외를 그대로 던짐)
+    public void submit(Long userId, Long foodId) {
+        if (userId == null || foodId == null) {
+            throw new IllegalArgumentException("userId, foodId 는 필수입니다");
+        }
+        Order order = toOrder(userId, foodId);
+        if (running && queue.offer(order)) {
+            queuedCounter.increment();
+            return;
+        }
+        if (overflowPolicy == OverflowPolicy.REJECT || !running) {
+            rejectedCounter.increment();
+            throw new RejectedExecutionException("주문 대기열이 가득 찼습니다 (" + queue.size() + " 건 대기 중)");
+        }
+        callerRunsCounter.increment();
+        writeInCaller(order);
+    }
+
+    public int size() {
+        return queue.size();
+    }
+
+    private void run() {
+        List<Order> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Order first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                // close() 의 제한 시간이 지나 중단됨, 남은 주문은 로그로 남김
+                log.error("order ingestion interrupted, {} orders not written", queue.size() + batch.size());
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("order ingestion batch failed", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    // 배치를 한 트랜잭션으로 저장, 실패하면 한 건씩 다시 저장하여 실패한 주문만 버림
+    private void write(List<Order> batch) {
+        long start = System.nanoTime();
+        try {
+            writer.accept(batch);
+            writtenCounter.increment(batch.size());
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                failed(batch.get(0), e);
+            } else {
+                log.warn("order batch of {} failed, retrying one by one : {}", batch.size(), e.getMessage());
+                for (Order order : batch) {
+                    order.setId(null);
+                    try {
+                        writer.accept(List.of(order));
+                        writtenCounter.increment();
+                    } catch (RuntimeException orderException) {
+                        failed(order, orderException);
+                    }
+                }
+            }
+        } finally {
+            batchSizeSummary.record(batch.size());
+            batchTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    // CALLER_RUNS : 요청 스레드에서 한 건을 저장하고, 실패하면 예외를 다시 던져 요청이 실패 응답을 받도록 함
+    private void writeInCaller(Order order) {
+        long start = System.nanoTime();
+        try {
+            writer.accept(List.of(order));
+            writtenCounter.increment();
+        } catch (RuntimeException e) {
+            failed(order, e);
+            throw e;
+        } finally {
+            batchSizeSummary.record(1);
+            batchTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void failed(Order order, RuntimeException e) {
+        failedCounter.increment();
+        log.error("order not written (userId={}, foodId={}, orderDate={}) : {}",
+                order.getUser().getId(), order.getFood().getId(), order.getOrderDate(), e.getMessage());
+    }
+
+    // 저장에는 id 만 필요하므로 회원, 음식을 조회하지 않고 id 만 가진 객체로 연결
+    private static Order toOrder(Long userId, Long foodId) {
+        User user = new User();
+        user.setId(userId);
+        Food food = new Food();
+        food.setId(foodId);
+
+        Order order = new Order();
+        order.setUser(user);
+        order.setFood(food);
+        order.setOrderDate(LocalDateTime.now());
+        return order;
+    }
+
+    // 새 주문을 받지 않고, 남은 주문을 저장할 때까지 최대 shutdown-timeout 동안 기다림
+    @Override
+    public void close() throws InterruptedException {
+        running = false;
+        worker.join(shutdownTimeout.toMillis());
+        if (worker.isAlive()) {
+            worker.interrupt();
+            worker.join(1000);
+            return;
+        }
+
+        // 스레드가 끝난 직후 큐에 들어간 주문
+        List<Order> rest = new ArrayList<>();
+        queue.drainTo(rest);
+        if (!rest.isEmpty()) {
+            write(rest);
+        }
+    }
+}
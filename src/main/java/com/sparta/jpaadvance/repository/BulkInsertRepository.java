@@ -0,0 +1,253 @@
+package com.sparta.jpaadvance.repository;
+
+import com.sparta.jpaadvance.config.SecondLevelCacheConfig;
+import com.sparta.jpaadvance.entity.Food;
+import com.sparta.jpaadvance.entity.Order;
+import com.sparta.jpaadvance.entity.User;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.LockOptions;
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/*
+✅ User, Food, Order 엔티티를 JDBC 배치로 한 번에 INSERT 하는 대량 저장 전용 레포지토리
+
+    ➡️ 세 엔티티 모두 GenerationType.IDENTITY 전략을 사용하므로 Hibernate는 INSERT를 배치로 묶지 못함
+
+            - IDENTITY는 INSERT를 실행해야만 id를 알 수 있으므로 persist 시점마다 INSERT가 즉시 한 건씩 실행됨
+
+            - 따라서 saveAll(list)을 호출해도 엔티티 개수만큼 DB 왕복이 발생
+
+    ➡️ 이 레포지토리는 JdbcTemplate.batchUpdate로 batch-size 단위의 JDBC 배치를 만들어 실행
+
+            - MySQL은 rewriteBatchedStatements=true 옵션이 있으면 배치를 multi-row INSERT 한 번으로 재작성
+
+            - 생성된 id는 KeyHolder로 돌려받아 엔티티에 다시 설정
+
+    📢 영속성 컨텍스트를 거치지 않으므로 저장된 엔티티는 비영속(detached) 상태로 남음
+
+    📢 Hibernate 를 거치지 않아 2차 캐시가 자동으로 갱신되지 않으므로, 커밋 후 영향을 받는 캐시를 직접 제거
+
+            - 사용자 추가 : findByName 쿼리 캐시 영역 (없던 이름이 조회될 수 있으므로)
+
+            - 음식 추가 : 음식이 추가된 User 의 foodList 컬렉션 캐시
+
+    📢 MySQL 의 orders 에는 외래 키가 없으므로(파티션 테이블) 주문이 참조하는 회원, 음식이 있는지 INSERT 전에 직접 확인
+
+            - 확인하는 회원, 음식 행에 공유 잠금(MySQL : SELECT ... FOR SHARE)을 걸어 커밋할 때까지 삭제되지 않도록 함
+              (음식 삭제 FoodService.deleteFoodsOfUser 의 FOR UPDATE 와 서로 기다림, 주문 저장끼리는 막지 않음)
+
+            - 잠금 구문은 Hibernate Dialect 의 읽기 잠금 구문을 사용 (공유 잠금이 없는 DB 는 FOR UPDATE)
+
+    📢 OrderStatsListener 도 호출되지 않으므로 주문을 저장한 트랜잭션에서 주문 통계를 직접 갱신 (OrderStatsJdbcRepository)
+ */
+
+@Repository
+@Timed("jpa-advance.bulk-insert") // 메서드별 실행 시간 (MetricsConfig 의 TimedAspect)
+public class BulkInsertRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final SessionFactory sessionFactory;
+    private final String readLock; // 참조하는 회원, 음식 행을 잠그는 구문 (MySQL : " for share")
+    private final OrderStatsJdbcRepository orderStatsJdbcRepository;
+    private final int batchSize; // 한 번의 JDBC 배치에 담을 최대 row 수
+
+    public BulkInsertRepository(JdbcTemplate jdbcTemplate,
+                                EntityManagerFactory entityManagerFactory,
+                                OrderStatsJdbcRepository orderStatsJdbcRepository,
+                                @Value("${jpa-advance.bulk-insert.batch-size:500}") int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batch-size 는 1 이상이어야 합니다 : " + batchSize);
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        this.readLock = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getJdbcServices().getDialect()
+                .getReadLockString(LockOptions.WAIT_FOREVER);
+        this.orderStatsJdbcRepository = orderStatsJdbcRepository;
+        this.batchSize = batchSize;
+    }
+
+    // 사용자 목록을 batch-size 단위로 나누어 INSERT
+    @Transactional
+    public void saveAllUsers(List<User> userList) {
+        insertInChunks("insert into users (name) values (?)", userList,
+                (ps, user) -> ps.setString(1, user.getName()),
+                User::setId);
+
+        afterCommit(() -> sessionFactory.getCache().evictQueryRegion(SecondLevelCacheConfig.USERS_BY_NAME_REGION));
+    }
+
+    // 음식 목록을 batch-size 단위로 나누어 INSERT, user 는 id 만 사용하므로 연관된 User 는 미리 저장되어 있어야 함
+    @Transactional
+    public void saveAllFoods(List<Food> foodList) {
+        insertInChunks("insert into food (name, price, user_id) values (?, ?, ?)", foodList,
+                (ps, food) -> {
+                    ps.setString(1, food.getName());
+                    ps.setDouble(2, food.getPrice());
+                    setNullableId(ps, 3, food.getUser() == null ? null : food.getUser().getId());
+                },
+                Food::setId);
+
+        Set<Long> userIds = foodList.stream()
+                .map(Food::getUser)
+                .filter(Objects::nonNull)
+                .map(User::getId)
+                .collect(Collectors.toSet());
+        afterCommit(() -> userIds.forEach(userId ->
+                sessionFactory.getCache().evictCollectionData(User.class.getName() + ".foodList", userId)));
+    }
+
+    // 주문 목록을 batch-size 단위로 나누어 INSERT, AuditingEntityListener 를 거치지 않으므로 orderDate 는 직접 채움
+    // 주문 금액(amount)이 비어 있으면 음식이 있는지 확인하며 함께 읽은 가격으로 채움 (음식은 id 만 있어도 됨)
+    // 같은 트랜잭션에서 주문 통계도 회원별, 음식별로 묶어 갱신
+    // 없는 회원, 음식을 참조하는 주문이 있으면 하나도 저장하지 않고 DataIntegrityViolationException
+    @Transactional
+    public void saveAllOrders(List<Order> orderList) {
+        requireExisting("users", "id", orderList, BulkInsertRepository::userId);
+        Map<Long, Object> prices = requireExisting("food", "price", orderList, BulkInsertRepository::foodId);
+
+        LocalDateTime now = LocalDateTime.now();
+        for (Order order : orderList) {
+            if (order.getOrderDate() == null) {
+                order.setOrderDate(now);
+            }
+            if (order.getAmount() == null) {
+                order.setAmount(order.getFood() == null ? 0 : ((Number) prices.get(foodId(order))).doubleValue());
+            }
+        }
+
+        insertInChunks("insert into orders (food_id, user_id, order_date, amount) values (?, ?, ?, ?)", orderList,
+                (ps, order) -> {
+                    setNullableId(ps, 1, foodId(order));
+                    setNullableId(ps, 2, userId(order));
+                    ps.setTimestamp(3, Timestamp.valueOf(order.getOrderDate()));
+                    ps.setDouble(4, order.getAmount());
+                },
+                Order::setId);
+
+        orderStatsJdbcRepository.addOrders(orderList);
+    }
+
+    // 주문이 참조하는 id 가 table 에 모두 있는지 batch-size 단위의 IN 조회로 확인하고, id 별 column 값을 반환
+    // 조회한 행은 트랜잭션이 끝날 때까지 잠금, 트랜잭션끼리 교착되지 않도록 id 순서로 잠금
+    private Map<Long, Object> requireExisting(String table, String column, List<Order> orderList, Function<Order, Long> idGetter) {
+        List<Long> ids = orderList.stream()
+                .map(idGetter)
+                .filter(Objects::nonNull)
+                .distinct()
+                .sorted()
+                .toList();
+
+        Map<Long, Object> values = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += batchSize) {
+            List<Long> chunk = ids.subList(from, Math.min(from + batchSize, ids.size()));
+            namedParameterJdbcTemplate.query(
+                    "select id, " + column + " from " + table + " where id in (:ids) order by id" + readLock,
+                    Map.of("ids", chunk), (RowCallbackHandler) rs -> values.put(rs.getLong(1), rs.getObject(2)));
+        }
+        if (values.size() < ids.size()) {
+            Set<Long> missing = new HashSet<>(ids);
+            missing.removeAll(values.keySet());
+            throw new DataIntegrityViolationException(table + " 에 없는 id 를 참조하는 주문입니다 : " + missing);
+        }
+        return values;
+    }
+
+    private static Long userId(Order order) {
+        return order.getUser() == null ? null : order.getUser().getId();
+    }
+
+    private static Long foodId(Order order) {
+        return order.getFood() == null ? null : order.getFood().getId();
+    }
+
+    private <T> void insertInChunks(String sql, List<T> rows, RowBinder<T> binder, IdSetter<T> idSetter) {
+        for (int from = 0; from < rows.size(); from += batchSize) {
+            List<T> chunk = rows.subList(from, Math.min(from + batchSize, rows.size()));
+
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+            jdbcTemplate.batchUpdate(
+                    con -> con.prepareStatement(sql, new String[]{"id"}),
+                    new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement ps, int i) throws SQLException {
+                            binder.bind(ps, chunk.get(i));
+                        }
+
+                        @Override
+                        public int getBatchSize() {
+                            return chunk.size();
+                        }
+                    },
+                    keyHolder);
+
+            // 배치 순서대로 돌려받은 id 를 엔티티에 설정
+            List<Map<String, Object>> keyList = keyHolder.getKeyList();
+            for (int i = 0; i < keyList.size() && i < chunk.size(); i++) {
+                Number key = (Number) keyList.get(i).values().iterator().next();
+                idSetter.set(chunk.get(i), key.longValue());
+            }
+        }
+    }
+
+    // 트랜잭션이 커밋된 뒤 실행, 커밋 전에 캐시를 비우면 다른 트랜잭션이 이전 데이터로 캐시를 다시 채울 수 있음
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static void setNullableId(PreparedStatement ps, int index, Long id) throws SQLException {
+        if (id == null) {
+            ps.setNull(index, Types.BIGINT);
+        } else {
+            ps.setLong(index, id);
+        }
+    }
+
+    @FunctionalInterface
+    private interface RowBinder<T> {
+        void bind(PreparedStatement ps, T row) throws SQLException;
+    }
+
+    @FunctionalInterface
+    private interface IdSetter<T> {
+        void set(T row, Long id);
+    }
+}
@@ -1,7 +1,19 @@
 package com.sparta.jpaadvance.repository;
 
+import com.sparta.jpaadvance.dto.FoodSummary;
 import com.sparta.jpaadvance.entity.Food;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
 
 /*
  ✅ JpaRepository를 활용하여 Food 엔티티와 관련된 데이터베이스 접근을 담당하는 인터페이스
@@ -20,5 +32,57 @@ import org.springframework.data.jpa.repository.JpaRepository;
 // JpaRepository 인터페이스는 기본적으로 데이터베이스 작업을 위한 여러 메서드를 제공. 예를 들어, save, findById, findAll, delete 등
 // FoodRepository 인터페이스를 사용하면 이러한 메서드를 직접 구현하지 않고도 데이터베이스의 food 테이블과 매핑된 Food 엔티티를 쉽게 다룰 수 있음
 
+// 인터페이스에 선언한 쿼리 메서드도 읽기 전용 트랜잭션으로 실행 (읽기/쓰기 분리 시 레플리카에서 조회)
+// JpaRepository 의 save, delete 등은 SimpleJpaRepository 의 @Transactional 이 우선 적용됨
+@Transactional(readOnly = true)
 public interface FoodRepository extends JpaRepository<Food, Long> {
+
+    // Food.user 는 지연 로딩이므로, 회원 정보까지 필요한 곳에서는 "Food.user" 엔티티 그래프로 함께 조회
+    @EntityGraph("Food.user")
+    Optional<Food> findWithUserById(Long id);
+
+    // 음식을 조회하며 공유 잠금 (MySQL : SELECT ... FOR SHARE, 2차 캐시를 거치지 않고 DB 에서 조회)
+    // 주문 저장(OrderService.placeOrder)이 커밋될 때까지 음식이 삭제되지 않도록 함, 다른 주문 저장끼리는 막지 않음
+    @Transactional
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    Optional<Food> findForShareById(Long id);
+
+    // 목록 조회는 필요한 컬럼만 DTO 로 조회 (반환 타입이 DTO 이면 Spring Data JPA 가 생성자 표현식으로 조회)
+    Page<FoodSummary> findSummaryBy(Pageable pageable);
+
+    List<FoodSummary> findSummaryByUserId(Long userId);
+
+    /*
+    📢 벌크 연산 :
+
+            - 엔티티를 하나씩 조회해서 setPrice 하면 변경 감지로 엔티티마다 UPDATE 가 실행됨
+
+            - JPQL update / delete 는 영속성 컨텍스트를 거치지 않고 한 번의 SQL 로 DB 를 직접 변경
+
+            - flushAutomatically : 실행 전에 아직 반영되지 않은 변경을 flush
+
+            - clearAutomatically : 실행 후 영속성 컨텍스트를 비워서 변경 전 값을 가진 엔티티가 남지 않도록 함
+
+            - 2차 캐시는 Hibernate 가 벌크 연산 대상 테이블(food)의 엔티티, 컬렉션(User.foodList), 쿼리 캐시를 자동으로 무효화
+
+            - 벌크 연산은 @Version 을 증가시키지 않으므로 set 절에서 직접 증가 (같은 음식을 조회해 둔 트랜잭션이 수정하면 충돌로 감지)
+     */
+
+    // 가격이 minPrice ~ maxPrice 인 음식의 가격을 rate 배로 변경하고 변경된 row 수를 반환
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Food f set f.price = f.price * :rate, f.version = f.version + 1 where f.price between :minPrice and :maxPrice")
+    int updatePriceByRate(double rate, double minPrice, double maxPrice);
+
+    // 회원의 음식 id 를 조회하며 음식 행을 잠금 (SELECT ... FOR UPDATE, 트랜잭션이 끝날 때까지 유지)
+    // 잠근 음식을 참조하는 주문 저장(findForShareById, BulkInsertRepository 의 공유 잠금)은 이 트랜잭션이 끝날 때까지 기다림
+    @Transactional
+    @Query(value = "select id from food where user_id = :userId for update", nativeQuery = true)
+    List<Long> lockIdsByUserId(Long userId);
+
+    // 회원의 음식을 foodList 를 조회하지 않고 한 번에 삭제 (주문에서 참조 중인지는 FoodService 에서 먼저 확인)
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Food f where f.user.id = :userId")
+    int deleteAllInBatchByUserId(Long userId);
 }
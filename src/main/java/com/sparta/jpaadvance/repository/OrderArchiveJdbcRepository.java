@@ -0,0 +1,57 @@
+package com.sparta.jpaadvance.repository;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/*
+✅ 오래된 주문을 orders 에서 orders_archive 로 옮기는 레포지토리
+
+    ➡️ 한 번에 batch-size 건씩, 한 트랜잭션에서 orders_archive 에 INSERT ... SELECT 후 orders 에서 DELETE
+
+            - 트랜잭션과 잠금이 짧게 유지되어 주문 처리와 복제에 주는 영향이 작음
+
+            - 모든 SQL 에 order_date < cutoff 조건을 붙여 파티션 테이블에서는 오래된 파티션만 읽음 (파티션 프루닝)
+
+    📢 JDBC 로 직접 옮기므로 OrderStatsListener 가 호출되지 않음 : 통계는 옮긴 주문도 포함한 누적 값으로 유지
+ */
+
+@Repository
+public class OrderArchiveJdbcRepository {
+
+    private static final String SELECT_BATCH = "select id from orders where order_date < :cutoff" +
+            " order by order_date, id limit :batchSize for update";
+
+    private static final String COPY = "insert into orders_archive (id, food_id, user_id, order_date, amount, archived_at)" +
+            " select id, food_id, user_id, order_date, amount, :archivedAt from orders where order_date < :cutoff and id in (:ids)";
+
+    private static final String DELETE = "delete from orders where order_date < :cutoff and id in (:ids)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public OrderArchiveJdbcRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // cutoff 이전 주문을 오래된 순으로 최대 batchSize 건 옮기고 옮긴 주문 수를 반환
+    @Transactional
+    public int archiveBatch(LocalDateTime cutoff, int batchSize) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("cutoff", Timestamp.valueOf(cutoff))
+                .addValue("batchSize", batchSize);
+        List<Long> ids = jdbcTemplate.queryForList(SELECT_BATCH, params, Long.class);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        params.addValue("ids", ids)
+                .addValue("archivedAt", Timestamp.valueOf(LocalDateTime.now()));
+        jdbcTemplate.update(COPY, params);
+        return jdbcTemplate.update(DELETE, params);
+    }
+}
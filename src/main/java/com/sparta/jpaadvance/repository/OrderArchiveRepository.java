@@ -0,0 +1,23 @@
+package com.sparta.jpaadvance.repository;
+
+import com.sparta.jpaadvance.entity.OrderArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+/*
+✅ 보관된 주문(orders_archive) 조회 레포지토리
+
+    ➡️ 주문을 옮기는 작업은 OrderArchiveJdbcRepository 가 SQL 로 처리
+ */
+
+@Transactional(readOnly = true)
+public interface OrderArchiveRepository extends JpaRepository<OrderArchive, Long> {
+
+    List<OrderArchive> findByUserIdOrderByOrderDateDesc(Long userId);
+
+    // 음식을 참조하는 보관된 주문이 있는지 (음식 삭제 전 확인, food_id 인덱스)
+    boolean existsByFoodIdIn(Collection<Long> foodIds);
+}
@@ -1,7 +1,23 @@
 package com.sparta.jpaadvance.repository;
 
+import com.sparta.jpaadvance.dto.OrderSummary;
 import com.sparta.jpaadvance.entity.Order;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /*
 ✅ JpaRepository를 활용하여 Order 엔티티와 관련된 DB 접근을 담당하는 인터페이스
@@ -15,5 +31,88 @@ import org.springframework.data.jpa.repository.JpaRepository;
 // 제네릭 타입 설명:
 // Order: JpaRepository가 다루는 엔티티 클래스 타입. 여기서는 Order 엔티티를 다루므로 Order 클래스를 지정
 // Long: 엔티티의 기본 키 타입. Order 엔티티의 기본 키 타입이 Long이므로 Long을 지정
+// 주문 목록, 요약 조회 같은 쿼리 메서드는 읽기 전용 트랜잭션으로 실행
+@Transactional(readOnly = true)
 public interface OrderRepository extends JpaRepository<Order, Long> {
+
+    // 스트리밍 조회 시 JDBC 드라이버가 한 번에 가져올 row 수
+    String STREAM_FETCH_SIZE = "1000";
+
+    // 주문 목록 DTO 조회에 공통으로 사용하는 select 절
+    // 가격은 현재 음식 가격(f.price)이 아닌 주문 시점 금액(o.amount)이므로 가격이 바뀌어도 주문 통계와 같은 값
+    String ORDER_SUMMARY_SELECT = "select new com.sparta.jpaadvance.dto.OrderSummary(o.id, u.id, u.name, f.id, f.name, o.amount, o.orderDate)" +
+            " from Order o join o.user u join o.food f";
+
+    // Order.food, Order.user 는 지연 로딩이므로 findAll() 은 orders 테이블만 조회
+    // 음식, 사용자 정보까지 필요한 곳에서는 "Order.foodAndUser" 엔티티 그래프로 한 번에 조회
+    @EntityGraph("Order.foodAndUser")
+    Optional<Order> findWithFoodAndUserById(Long id);
+
+    @EntityGraph("Order.foodAndUser")
+    List<Order> findAllWithFoodAndUserBy();
+
+    // 주문 목록은 엔티티 대신 OrderSummary DTO 로 조회하여 영속성 컨텍스트를 거치지 않음
+    // 전체 건수도 목록과 같은 내부 조인으로 세어 회원, 음식이 없는 주문(외래 키가 없는 MySQL)이 건수에만 포함되지 않게 함
+    @Query(value = ORDER_SUMMARY_SELECT, countQuery = "select count(o) from Order o join o.user join o.food")
+    Page<OrderSummary> findSummaryBy(Pageable pageable);
+
+    @Query(ORDER_SUMMARY_SELECT + " where o.id = :id")
+    Optional<OrderSummary> findSummaryById(Long id);
+
+    @Query(ORDER_SUMMARY_SELECT + " where u.id = :userId order by o.orderDate desc, o.id desc")
+    List<OrderSummary> findSummaryByUserId(Long userId);
+
+    /*
+    📢 파티션 프루닝(partition pruning) :
+
+            - orders 는 MySQL 에서 order_date 월 단위 RANGE 파티션 테이블 (db/migration/mysql/V3__partition_orders_by_order_date.sql)
+
+            - where 절에 order_date 범위 조건이 있어야 해당 기간의 파티션만 읽음, 없으면 모든 파티션을 읽음
+
+            - 기간은 [from, to) 반열린 구간으로 비교하여 경계의 주문이 두 기간에 중복되지 않도록 함
+     */
+
+    // 회원의 기간 내 주문 : (user_id, order_date) 인덱스로 기간 파티션만 읽음
+    @Query(ORDER_SUMMARY_SELECT +
+            " where u.id = :userId and o.orderDate >= :from and o.orderDate < :to" +
+            " order by o.orderDate desc, o.id desc")
+    List<OrderSummary> findSummaryByUserIdAndPeriod(Long userId, LocalDateTime from, LocalDateTime to);
+
+    @Query("select count(o) from Order o where o.orderDate >= :from and o.orderDate < :to")
+    long countByPeriod(LocalDateTime from, LocalDateTime to);
+
+    // 음식을 참조하는 주문이 있는지 (MySQL 의 orders 에는 외래 키가 없으므로 음식 삭제 전에 직접 확인, food_id 인덱스)
+    boolean existsByFoodIdIn(Collection<Long> foodIds);
+
+    /*
+    📢 키셋(keyset, seek) 페이지네이션 :
+
+            - offset 페이징(limit 20 offset 200000)은 앞의 200000 건을 모두 읽고 버리므로 뒤 페이지일수록 느려짐
+
+            - 이전 페이지의 마지막 (orderDate, id) 보다 작은 주문부터 limit 건을 읽으면
+              (order_date, id) 인덱스에서 바로 시작 위치를 찾으므로 몇 번째 페이지든 비용이 같음
+
+            - orderDate 가 같은 주문이 있을 수 있으므로 id 를 함께 비교하여 순서를 유일하게 만듦
+     */
+
+    // 첫 페이지 : 최신 주문부터 limit 건
+    @Query(ORDER_SUMMARY_SELECT + " order by o.orderDate desc, o.id desc")
+    List<OrderSummary> findSummaryFirstPage(Limit limit);
+
+    // 다음 페이지 : (orderDate, id) 가 이전 페이지의 마지막 주문보다 앞서는 주문부터 limit 건
+    @Query(ORDER_SUMMARY_SELECT +
+            " where o.orderDate < :orderDate or (o.orderDate = :orderDate and o.id < :id)" +
+            " order by o.orderDate desc, o.id desc")
+    List<OrderSummary> findSummaryBefore(LocalDateTime orderDate, Long id, Limit limit);
+
+    // 전체 주문을 List 로 만들지 않고 한 건씩 읽는 스트리밍 조회 (트랜잭션 안에서 사용 후 반드시 close)
+    // - fetch size 만큼씩 DB 커서에서 읽음 (MySQL 은 useCursorFetch=true 일 때 서버 커서 사용)
+    // - 읽기 전용으로 조회하여 스냅샷을 만들지 않고, 한 번만 읽을 데이터가 2차 캐시를 밀어내지 않도록 캐시를 사용하지 않음
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE")
+    })
+    @Query("select o from Order o join fetch o.user join fetch o.food")
+    Stream<Order> streamAllWithFoodAndUserBy();
 }
@@ -0,0 +1,167 @@
+package com.sparta.jpaadvance.repository;
+
+import com.sparta.jpaadvance.entity.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/*
+✅ 주문 통계 테이블(user_order_stats, food_order_stats)을 SQL 로 직접 증감, 재집계하는 레포지토리
+
+    ➡️ 주문 추가 : insert ... on duplicate key update 로 통계 행이 없으면 만들고 있으면 주문 수, 금액을 더함
+
+            - 금액은 주문 행에 저장된 주문 시점의 가격(Order.amount)을 사용하므로 food 를 조회하지 않음
+
+            - 여러 주문은 회원별, 음식별로 묶어 JDBC 배치 한 번으로 반영
+
+    ➡️ 주문 삭제 : 주문 수와 그 주문의 금액을 뺌 (마지막 주문일은 그대로)
+
+    ➡️ 재집계 : 통계 키(user_id, food_id)를 구간으로 나누어, 구간마다 별도 트랜잭션에서 통계 행을 지우고 orders, orders_archive 집계로 다시 채움
+
+            - 보관 기간이 지나 orders_archive 로 옮긴 주문(OrderArchiveService)도 통계에 계속 포함
+
+            - InnoDB(REPEATABLE READ)의 INSERT ... SELECT 는 읽은 주문 행에 공유 락을 걸므로,
+              한 트랜잭션으로 전체를 다시 채우면 재집계가 끝날 때까지 모든 주문의 변경이 막힘
+              구간별 트랜잭션은 해당 구간의 주문만 잠깐 잠금 (구간 크기는 OrderStatsService 의 rebuild-range-size)
+
+    📢 증감은 주문을 저장/삭제하는 트랜잭션 안에서 실행되어 함께 커밋/롤백됨
+
+    📢 음식 가격이 바뀌어도(FoodService.changePriceByPercent) 주문 금액은 주문 시점 가격으로 남으므로 통계가 어긋나지 않음
+
+    📢 같은 회원, 음식의 통계 행은 커밋할 때까지 잠기므로, 인기 음식에 주문이 몰리면 해당 행에서 대기가 생길 수 있음
+       주문이 몰리는 경로는 비동기 적재(OrderIngestionQueue)로 묶어서 반영
+ */
+
+@Repository
+public class OrderStatsJdbcRepository {
+
+    public static final String USER_STATS_TABLE = "user_order_stats";
+    public static final String FOOD_STATS_TABLE = "food_order_stats";
+
+    // 통계 행이 없으면 추가, 있으면 주문 수, 금액을 더하고 마지막 주문일을 갱신 (MySQL, H2 MySQL 모드)
+    private static final String UPSERT = "insert into %s (%s, order_count, total_amount, last_order_date)" +
+            " values (?, ?, ?, ?)" +
+            " on duplicate key update order_count = order_count + values(order_count)," +
+            " total_amount = total_amount + values(total_amount)," +
+            " last_order_date = coalesce(greatest(last_order_date, values(last_order_date)), last_order_date, values(last_order_date))";
+
+    private static final String DECREMENT = "update %s set order_count = order_count - 1, total_amount = total_amount - ?" +
+            " where %s = ?";
+
+    // 통계 테이블과 주문 테이블에 있는 가장 작은, 가장 큰 통계 키 (각각 통계 키의 인덱스로 조회)
+    private static final String KEY_RANGE = "select min(k.low), max(k.high) from (" +
+            "select min(%2$s) low, max(%2$s) high from orders" +
+            " union all select min(%2$s), max(%2$s) from orders_archive" +
+            " union all select min(%2$s), max(%2$s) from %1$s) k";
+
+    private static final String DELETE_RANGE = "delete from %1$s where %2$s between ? and ?";
+
+    private static final String REBUILD_RANGE = "insert into %1$s (%2$s, order_count, total_amount, last_order_date)" +
+            " select o.%2$s, count(*), sum(o.amount), max(o.order_date)" +
+            " from (select %2$s, amount, order_date from orders where %2$s between ? and ?" +
+            " union all select %2$s, amount, order_date from orders_archive where %2$s between ? and ?) o" +
+            " group by o.%2$s";
+
+    // 재집계 대상 통계 테이블과 통계 키 열
+    public enum Target {
+        USER(USER_STATS_TABLE, "user_id"),
+        FOOD(FOOD_STATS_TABLE, "food_id");
+
+        private final String table;
+        private final String keyColumn;
+
+        Target(String table, String keyColumn) {
+            this.table = table;
+            this.keyColumn = keyColumn;
+        }
+    }
+
+    // 통계 키 구간 [from, to]
+    public record KeyRange(long from, long to) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public OrderStatsJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // 저장된 주문을 회원별, 음식별 통계에 더함, 주문 금액(Order.amount)이 채워져 있어야 함
+    @Transactional
+    public void addOrders(List<Order> orderList) {
+        upsert(USER_STATS_TABLE, "user_id", orderList, OrderStatsJdbcRepository::userId);
+        upsert(FOOD_STATS_TABLE, "food_id", orderList, OrderStatsJdbcRepository::foodId);
+    }
+
+    // 삭제된 주문을 회원별, 음식별 통계에서 뺌
+    @Transactional
+    public void removeOrder(Order order) {
+        Long userId = userId(order);
+        Long foodId = foodId(order);
+        if (userId != null) {
+            jdbcTemplate.update(DECREMENT.formatted(USER_STATS_TABLE, "user_id"), order.getAmount(), userId);
+        }
+        if (foodId != null) {
+            jdbcTemplate.update(DECREMENT.formatted(FOOD_STATS_TABLE, "food_id"), order.getAmount(), foodId);
+        }
+    }
+
+    // 재집계할 통계 키 구간, 통계와 주문이 모두 없으면 empty
+    public Optional<KeyRange> keyRange(Target target) {
+        return Optional.ofNullable(jdbcTemplate.query(KEY_RANGE.formatted(target.table, target.keyColumn), rs -> {
+            rs.next();
+            long to = rs.getLong(2);
+            return rs.wasNull() ? null : new KeyRange(rs.getLong(1), to);
+        }));
+    }
+
+    // 통계 키가 [from, to] 인 통계 행을 orders, orders_archive 기준으로 다시 채우고, 다시 채운 통계 행 수를 반환
+    @Transactional
+    public int rebuildRange(Target target, long from, long to) {
+        jdbcTemplate.update(DELETE_RANGE.formatted(target.table, target.keyColumn), from, to);
+        return jdbcTemplate.update(REBUILD_RANGE.formatted(target.table, target.keyColumn), from, to, from, to);
+    }
+
+    // 통계 키별로 주문 수, 금액, 마지막 주문일을 모아 배치로 반영, 통계 키가 없는 주문은 제외
+    private void upsert(String table, String keyColumn, List<Order> orderList, Function<Order, Long> key) {
+        Map<Long, Object[]> rows = new LinkedHashMap<>();
+        for (Order order : orderList) {
+            Long keyId = key.apply(order);
+            if (keyId == null) {
+                continue;
+            }
+            Object[] row = rows.computeIfAbsent(keyId, k -> new Object[]{keyId, 0L, 0.0, null});
+            row[1] = (Long) row[1] + 1;
+            row[2] = (Double) row[2] + order.getAmount();
+            row[3] = later((Timestamp) row[3], order.getOrderDate());
+        }
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT.formatted(table, keyColumn), new ArrayList<>(rows.values()));
+        }
+    }
+
+    private static Timestamp later(Timestamp current, LocalDateTime orderDate) {
+        if (orderDate == null) {
+            return current;
+        }
+        Timestamp timestamp = Timestamp.valueOf(orderDate);
+        return current == null || timestamp.after(current) ? timestamp : current;
+    }
+
+    private static Long userId(Order order) {
+        return order.getUser() == null ? null : order.getUser().getId();
+    }
+
+    private static Long foodId(Order order) {
+        return order.getFood() == null ? null : order.getFood().getId();
+    }
+}
@@ -0,0 +1,15 @@
+package com.sparta.jpaadvance.repository;
+
+import com.sparta.jpaadvance.entity.UserOrderStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.transaction.annotation.Transactional;
+
+/*
+✅ 회원별 주문 통계(user_order_stats) 조회 레포지토리
+
+    ➡️ 통계 값의 증감, 재집계는 OrderStatsJdbcRepository 가 SQL 로 처리
+ */
+
+@Transactional(readOnly = true)
+public interface UserOrderStatsRepository extends JpaRepository<UserOrderStats, Long> {
+}
@@ -1,20 +1,97 @@
 package com.sparta.jpaadvance.repository;
 
+import com.sparta.jpaadvance.config.SecondLevelCacheConfig;
 import com.sparta.jpaadvance.entity.User;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
 
 /*
 ✅ JpaRepository를 활용하여 User 엔티티와 관련된 DB 접근을 담당하는 인터페이스
 
     ➡️ 해당 인터페이스는 User 엔티티와 관련된 DB CRUD 작업을 수행하는 메서드를 제공
+
+    📢 N+1 문제 :
+
+            - findByName 으로 User 를 조회한 뒤 user.getFoodList() 를 순회하면 지연 로딩으로 foodList 조회 SELECT 가 추가로 실행됨
+
+            - 여러 User 를 조회한 경우 User 마다 한 번씩 SELECT 가 실행되어 1 + N 번의 쿼리가 발생
+
+            - @EntityGraph(attributePaths = "foodList") 를 사용하면 User 와 foodList 를 LEFT JOIN FETCH 하여 한 번의 쿼리로 함께 조회
  */
 
 
 // 제네릭 타입 설명:
 // User: JpaRepository가 다루는 엔티티 클래스 타입. 여기서는 User 엔티티를 다루므로 User 클래스를 지정
 // Long: 엔티티의 기본 키 타입. User 엔티티의 기본 키 타입이 Long이므로 Long을 지정
+// findByName 등 쿼리 메서드는 읽기 전용 트랜잭션으로 실행 (읽기/쓰기 분리 시 레플리카에서 조회)
+@Transactional(readOnly = true)
 public interface UserRepository extends JpaRepository<User, Long> {
 
     // DB에서 name 필드가 주어진 name 과 일치하는 User 엔티티를 검색
+    // 가장 자주 호출되는 조회이므로 쿼리 캐시에 결과(User id)를 저장하고, User 엔티티는 2차 캐시에서 조회
+    // users 테이블이 Hibernate 를 통해 변경되면 캐시된 결과는 자동으로 무효화 (JDBC 로 직접 변경하면 영역을 비워야 함)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = SecondLevelCacheConfig.USERS_BY_NAME_REGION)
+    })
     User findByName(String name);
-}
\ No newline at end of file
+
+    // name 으로 User 를 조회하면서 foodList 까지 한 번의 쿼리로 함께 조회
+    @EntityGraph(attributePaths = "foodList")
+    User findWithFoodListByName(String name);
+
+    // findWithFoodListByName 의 조회 전용 버전 (UserQueryService 에서만 사용)
+    // 쓰기 트랜잭션 안에서 호출해도 읽기 전용으로 조회하므로 (스냅샷, 변경 감지 없음) 수정할 엔티티를 조회할 때는 사용하지 않음
+    @EntityGraph(attributePaths = "foodList")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    User findWithFoodListReadOnlyByName(String name);
+
+    // 여러 id 의 User 를 foodList 와 함께 한 번의 쿼리로 조회
+    @EntityGraph(attributePaths = "foodList")
+    List<User> findWithFoodListByIdIn(Collection<Long> ids);
+
+    // 회원을 조회하며 공유 잠금 (MySQL : SELECT ... FOR SHARE, 2차 캐시를 거치지 않고 DB 에서 조회)
+    // 주문 저장(OrderService.placeOrder)이 커밋될 때까지 회원이 삭제되지 않도록 함
+    @Transactional
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    Optional<User> findForShareById(Long id);
+
+    // User 를 조회하고 커밋할 때 변경 여부와 상관없이 version 을 증가 (OPTIMISTIC_FORCE_INCREMENT)
+    // foodList 처럼 users 테이블에 저장되지 않는 변경도 같은 회원을 동시에 수정하는 트랜잭션과 충돌하도록 함
+    @Lock(LockModeType.OPTIMISTIC_FORCE_INCREMENT)
+    Optional<User> findWithVersionIncrementById(Long id);
+
+    // 페이징 대상 User 의 id 만 조회
+    @Query("select u.id from User u")
+    Page<Long> findIdPage(Pageable pageable);
+
+    // 컬렉션을 fetch join 한 채로 페이징하면 Hibernate 가 모든 row 를 메모리에 올린 뒤 페이징하므로
+    // id 를 먼저 페이징하고, 해당 id 의 User 를 foodList 와 함께 조회 (페이지 크기와 무관하게 쿼리 수 고정)
+    default Page<User> findWithFoodListAll(Pageable pageable) {
+        Page<Long> idPage = findIdPage(pageable);
+        if (idPage.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, idPage.getTotalElements());
+        }
+
+        List<Long> ids = idPage.getContent();
+        List<User> userList = findWithFoodListByIdIn(ids).stream()
+                .sorted(Comparator.comparingInt(user -> ids.indexOf(user.getId()))) // id 페이지의 정렬 순서 유지
+                .toList();
+        return new PageImpl<>(userList, pageable, idPage.getTotalElements());
+    }
+}
@@ -0,0 +1,232 @@
+package com.sparta.jpaadvance.service;
+
+import com.sparta.jpaadvance.config.SecondLevelCacheConfig;
+import com.sparta.jpaadvance.entity.Food;
+import com.sparta.jpaadvance.entity.User;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+✅ CSV 로 받은 회원, 음식을 StatelessSession 으로 저장하는 대량 가져오기 서비스
+
+    ➡️ saveAll 은 저장한 엔티티를 모두 영속성 컨텍스트에 보관하므로 가져오는 row 수만큼 메모리가 늘어나고 flush 때마다 전부 변경 감지
+
+    ➡️ StatelessSession 은 영속성 컨텍스트, 변경 감지, 2차 캐시가 없으므로 한 줄 읽을 때마다 엔티티를 만들어 바로 INSERT 하고 버림
+       (입력을 한 줄씩 읽으므로 파일 크기와 관계없이 메모리 사용량이 일정)
+
+    ➡️ batch-size 줄마다 커밋하여 트랜잭션(언두 로그, 락)이 파일 크기만큼 커지지 않도록 함
+
+            - IDENTITY 전략이라 INSERT 를 JDBC 배치로 묶을 수는 없음 (JDBC 배치가 필요하면 BulkInsertRepository)
+
+    ➡️ 음식의 user_id 는 id 만 가진 User 참조로 연결하므로 회원을 조회하지 않음 (없는 회원이면 외래 키 fk_food_user_id 위반)
+
+    📢 실패하면 진행 중인 배치만 롤백되고 앞서 커밋한 배치는 남음 (예외 메시지에 실패한 줄과 이미 저장된 건수를 포함)
+
+    📢 Hibernate 6.5 의 StatelessSession.insert 는 IDENTITY 엔티티의 @Version 을 초기화하지 않으므로 version 을 0 으로 직접 설정
+
+    📢 2차 캐시를 거치지 않으므로 가져오기가 끝나면 영향을 받는 캐시를 직접 제거 (BulkInsertRepository 와 같은 영역)
+
+    📢 별도의 커넥션과 트랜잭션을 사용하므로 이미 시작된 트랜잭션 안에서는 호출할 수 없음 (IllegalStateException)
+ */
+
+@Service
+@Timed("jpa-advance.bulk-import") // 메서드별 실행 시간 (MetricsConfig 의 TimedAspect)
+public class BulkImportService {
+
+    static final String USERS_HEADER = "name";
+    static final String FOODS_HEADER = "name,price,user_id";
+
+    private final SessionFactory sessionFactory;
+    private final int batchSize; // 한 트랜잭션으로 저장할 최대 row 수
+
+    public BulkImportService(EntityManagerFactory entityManagerFactory,
+                             @Value("${jpa-advance.bulk-import.batch-size:1000}") int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batch-size 는 1 이상이어야 합니다 : " + batchSize);
+        }
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        this.batchSize = batchSize;
+    }
+
+    // "name" 헤더의 CSV 로 회원을 저장하고 저장한 회원 수를 반환
+    public long importUsers(Reader reader) throws IOException {
+        try {
+            return insertAll(new CsvReader(reader, USERS_HEADER), columns -> {
+                User user = new User();
+                user.setName(columns.get(0));
+                user.setVersion(0L);
+                return user;
+            });
+        } finally { // 중간에 실패해도 앞서 커밋한 배치가 있으므로 항상 제거
+            sessionFactory.getCache().evictQueryRegion(SecondLevelCacheConfig.USERS_BY_NAME_REGION);
+        }
+    }
+
+    // "name,price,user_id" 헤더의 CSV 로 음식을 저장하고 저장한 음식 수를 반환, user_id 가 비어 있으면 회원 없는 음식
+    public long importFoods(Reader reader) throws IOException {
+        try {
+            return insertAll(new CsvReader(reader, FOODS_HEADER), columns -> {
+                Food food = new Food();
+                food.setName(columns.get(0));
+                food.setPrice(Double.parseDouble(columns.get(1)));
+                food.setVersion(0L);
+                if (!columns.get(2).isEmpty()) {
+                    food.setUser(userReference(Long.parseLong(columns.get(2))));
+                }
+                return food;
+            });
+        } finally { // 어느 회원에 음식이 추가되었는지 모으지 않고 foodList 컬렉션 캐시 영역 전체를 제거
+            sessionFactory.getCache().evictCollectionData(User.class.getName() + ".foodList");
+        }
+    }
+
+    // 외래 키 값으로만 사용할 User, insert 는 id 만 읽음 (version 이 있어야 비영속 엔티티로 판단하지 않음)
+    // 연관 관계 관리로 참조의 foodList 에 음식이 추가되므로 줄마다 새로 만들어 함께 버림
+    private static User userReference(Long userId) {
+        User user = new User();
+        user.setId(userId);
+        user.setVersion(0L);
+        return user;
+    }
+
+    private long insertAll(CsvReader csvReader, RowMapper rowMapper) throws IOException {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("이미 시작된 트랜잭션 안에서는 가져올 수 없습니다");
+        }
+        long committed = 0;
+        try (StatelessSession session = sessionFactory.openStatelessSession()) {
+            Transaction transaction = session.beginTransaction();
+            int pending = 0;
+            List<String> columns;
+            while ((columns = csvReader.next()) != null) {
+                try {
+                    session.insert(map(csvReader, rowMapper, columns));
+                } catch (RuntimeException e) {
+                    transaction.rollback();
+                    if (e instanceof IllegalArgumentException) {
+                        throw new IllegalArgumentException(e.getMessage() + " (이미 저장된 row : " + committed + ")", e);
+                    }
+                    throw new DataIntegrityViolationException(
+                            csvReader.line() + "번째 줄을 저장하지 못했습니다 (이미 저장된 row : " + committed + ")", e);
+                }
+                if (++pending == batchSize) {
+                    transaction.commit();
+                    committed += pending;
+                    pending = 0;
+                    transaction = session.beginTransaction();
+                }
+            }
+            transaction.commit();
+            committed += pending;
+        }
+        return committed;
+    }
+
+    // 컬럼 수나 숫자 형식이 맞지 않으면 줄 번호를 담은 IllegalArgumentException
+    private static Object map(CsvReader csvReader, RowMapper rowMapper, List<String> columns) {
+        if (columns.size() != csvReader.columnCount()) {
+            throw new IllegalArgumentException(csvReader.line() + "번째 줄의 컬럼 수가 헤더와 다릅니다 : " + columns.size());
+        }
+        try {
+            return rowMapper.map(columns);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(csvReader.line() + "번째 줄의 숫자 형식이 잘못되었습니다 : " + e.getMessage(), e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface RowMapper {
+        Object map(List<String> columns);
+    }
+
+    // OrderExportService 가 출력하는 형식의 CSV 를 한 레코드씩 읽음
+    // 큰따옴표로 감싼 값은 쉼표, 줄바꿈을 포함할 수 있고 내부 따옴표는 두 번 씀
+    private static class CsvReader {
+
+        private final BufferedReader reader;
+        private final int columnCount;
+        private int line; // 마지막으로 읽은 레코드가 시작한 줄 번호 (헤더가 1)
+        private int nextLine = 1;
+
+        CsvReader(Reader reader, String expectedHeader) throws IOException {
+            this.reader = reader instanceof BufferedReader bufferedReader ? bufferedReader : new BufferedReader(reader);
+            List<String> header = next();
+            if (header == null || !String.join(",", header).equals(expectedHeader)) {
+                throw new IllegalArgumentException("CSV 헤더는 \"" + expectedHeader + "\" 이어야 합니다 : " + header);
+            }
+            this.columnCount = header.size();
+        }
+
+        int line() {
+            return line;
+        }
+
+        int columnCount() {
+            return columnCount;
+        }
+
+        // 다음 레코드의 값 목록, 입력이 끝나면 null (빈 줄은 건너뜀)
+        List<String> next() throws IOException {
+            String text;
+            do {
+                text = reader.readLine();
+                line = nextLine++;
+                if (text == null) {
+                    return null;
+                }
+            } while (text.isEmpty());
+
+            List<String> columns = new ArrayList<>();
+            StringBuilder value = new StringBuilder();
+            boolean quoted = false;
+            for (int i = 0; ; i++) {
+                if (i == text.length()) {
+                    if (!quoted) {
+                        break;
+                    }
+                    text = reader.readLine(); // 따옴표 안의 줄바꿈
+                    nextLine++;
+                    if (text == null) {
+                        throw new IllegalArgumentException(line + "번째 줄의 따옴표가 닫히지 않았습니다");
+                    }
+                    value.append('\n');
+                    i = -1;
+                    continue;
+                }
+                char c = text.charAt(i);
+                if (quoted) {
+                    if (c != '"') {
+                        value.append(c);
+                    } else if (i + 1 < text.length() && text.charAt(i + 1) == '"') {
+                        value.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    columns.add(value.toString());
+                    value.setLength(0);
+                } else {
+                    value.append(c);
+                }
+            }
+            columns.add(value.toString());
+            return columns;
+        }
+    }
+}
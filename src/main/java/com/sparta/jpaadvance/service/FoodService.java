@@ -0,0 +1,96 @@
+package com.sparta.jpaadvance.service;
+
+import com.sparta.jpaadvance.entity.Food;
+import com.sparta.jpaadvance.entity.User;
+import com.sparta.jpaadvance.repository.FoodRepository;
+import com.sparta.jpaadvance.repository.OrderArchiveRepository;
+import com.sparta.jpaadvance.repository.OrderRepository;
+import com.sparta.jpaadvance.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/*
+✅ 음식 등록, 가격 변경, 정리 작업을 담당하는 서비스
+
+    ➡️ 여러 음식을 한 번에 바꾸는 작업은 FoodRepository 의 벌크 연산으로 한 번의 SQL 로 처리
+
+    ➡️ 한 음식/회원을 조회해서 수정하는 작업은 낙관적 락(@Version)으로 동시 수정을 감지하고 OptimisticLockRetry 로 다시 실행
+       (비관적 락처럼 row 를 잠근 채 기다리지 않으므로 충돌하지 않는 요청은 서로를 막지 않음)
+ */
+
+@Service
+@RequiredArgsConstructor
+public class FoodService {
+
+    private final FoodRepository foodRepository;
+    private final OrderRepository orderRepository;
+    private final OrderArchiveRepository orderArchiveRepository;
+    private final UserRepository userRepository;
+    private final OptimisticLockRetry optimisticLockRetry;
+    private final EntityManagerFactory entityManagerFactory;
+
+    // 음식 가격을 amount 만큼 바꾸고 바뀐 가격을 반환, 음식이 없으면 NoSuchElementException
+    // 같은 음식을 동시에 바꾸면 나중에 커밋하는 쪽이 충돌하여 바뀐 가격을 다시 조회한 뒤 재시도 (변경이 사라지지 않음)
+    public double changePrice(Long foodId, double amount) {
+        return optimisticLockRetry.execute(status -> {
+            Food food = foodRepository.findById(foodId)
+                    .orElseThrow(() -> new NoSuchElementException("음식이 없습니다 : " + foodId));
+            food.setPrice(food.getPrice() + amount);
+            return food.getPrice();
+        });
+    }
+
+    // 회원의 음식을 등록하고 음식 id 를 반환, 회원이 없으면 NoSuchElementException
+    // food 테이블에만 INSERT 하지만 User.version 도 증가시켜서 같은 회원의 foodList 를 동시에 바꾸는 트랜잭션과 충돌하도록 함
+    public Long addFood(Long userId, String name, double price) {
+        return optimisticLockRetry.execute(status -> {
+            User user = userRepository.findWithVersionIncrementById(userId)
+                    .orElseThrow(() -> new NoSuchElementException("회원이 없습니다 : " + userId));
+            Food food = new Food();
+            food.setName(name);
+            food.setPrice(price);
+            user.addFoodList(food);
+            foodRepository.save(food);
+
+            // 강제로 증가시킨 version 은 2차 캐시의 User 에 반영되지 않으므로 커밋 후 캐시에서 제거
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    entityManagerFactory.getCache().evict(User.class, userId);
+                }
+            });
+            return food.getId();
+        });
+    }
+
+    // 가격이 minPrice ~ maxPrice 인 음식의 가격을 percent % 만큼 변경 (예: 10 이면 10% 인상, -10 이면 10% 인하)
+    @Transactional
+    public int changePriceByPercent(double percent, double minPrice, double maxPrice) {
+        if (percent <= -100) {
+            throw new IllegalArgumentException("가격을 100% 이상 내릴 수 없습니다 : " + percent);
+        }
+        return foodRepository.updatePriceByRate(1 + percent / 100, minPrice, maxPrice);
+    }
+
+    // 회원의 음식을 모두 삭제하고 삭제된 음식 수를 반환
+    // MySQL 의 orders 에는 외래 키가 없으므로 주문이나 보관된 주문에서 참조 중인 음식이 있으면 IllegalStateException
+    // 음식 행을 먼저 잠가서, 확인한 뒤 삭제하기 전에 다른 트랜잭션이 그 음식의 주문을 저장하지 못하도록 함
+    @Transactional
+    public int deleteFoodsOfUser(Long userId) {
+        List<Long> foodIds = foodRepository.lockIdsByUserId(userId);
+        if (foodIds.isEmpty()) {
+            return 0;
+        }
+        if (orderRepository.existsByFoodIdIn(foodIds) || orderArchiveRepository.existsByFoodIdIn(foodIds)) {
+            throw new IllegalStateException("주문된 음식은 삭제할 수 없습니다 : userId=" + userId);
+        }
+        return foodRepository.deleteAllInBatchByUserId(userId);
+    }
+}
@@ -0,0 +1,89 @@
+package com.sparta.jpaadvance.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/*
+✅ 낙관적 락 충돌(@Version) 시 트랜잭션을 처음부터 다시 실행하는 도우미 클래스
+
+    ➡️ 시도마다 새 트랜잭션(새 영속성 컨텍스트)에서 엔티티를 다시 조회하므로 먼저 커밋된 변경 위에 다시 적용
+
+    ➡️ 최대 max-attempts 번 시도, 시도 사이에는 initial-backoff 부터 두 배씩 늘려 max-backoff 까지 기다림
+       (기다리는 시간은 0.5 ~ 1 배 사이의 임의 값으로 흩어서 충돌한 트랜잭션들이 동시에 다시 부딪히지 않도록 함)
+
+    ➡️ 모두 실패하면 마지막 ObjectOptimisticLockingFailureException 을 그대로 던짐
+
+    ➡️ 재시도 횟수, 재시도 후에도 실패한 횟수는 jpa-advance.optimistic-lock.retries, jpa-advance.optimistic-lock.exhausted 지표로 수집
+
+    📢 이미 시작된 트랜잭션 안에서는 충돌한 트랜잭션을 롤백할 수 없으므로 호출할 수 없음 (IllegalStateException)
+ */
+
+@Slf4j
+@Component
+public class OptimisticLockRetry {
+
+    private final TransactionTemplate transactionTemplate;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Counter retryCounter;
+    private final Counter exhaustedCounter;
+
+    public OptimisticLockRetry(PlatformTransactionManager transactionManager,
+                               MeterRegistry meterRegistry,
+                               @Value("${jpa-advance.optimistic-lock.max-attempts:5}") int maxAttempts,
+                               @Value("${jpa-advance.optimistic-lock.initial-backoff:10ms}") Duration initialBackoff,
+                               @Value("${jpa-advance.optimistic-lock.max-backoff:200ms}") Duration maxBackoff) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("max-attempts 는 1 이상이어야 합니다 : " + maxAttempts);
+        }
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.retryCounter = meterRegistry.counter("jpa-advance.optimistic-lock.retries");
+        this.exhaustedCounter = meterRegistry.counter("jpa-advance.optimistic-lock.exhausted");
+    }
+
+    // action 을 새 트랜잭션에서 실행하고, 낙관적 락 충돌이면 기다렸다가 새 트랜잭션에서 다시 실행
+    public <T> T execute(TransactionCallback<T> action) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("이미 시작된 트랜잭션 안에서는 재시도할 수 없습니다");
+        }
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(action);
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt == maxAttempts || !backoff(attempt)) {
+                    exhaustedCounter.increment();
+                    log.warn("optimistic lock conflict not resolved after {} attempts: {}", attempt, e.getMessage());
+                    throw e;
+                }
+                retryCounter.increment();
+            }
+        }
+    }
+
+    // attempt 번째 시도가 실패한 뒤 기다림, 중단되면 false
+    private boolean backoff(int attempt) {
+        long max = Math.min(maxBackoff.toMillis(), initialBackoff.toMillis() << Math.min(attempt - 1, 20));
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(max / 2, max + 1));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.sparta.jpaadvance.service;
+
+import com.sparta.jpaadvance.repository.OrderArchiveJdbcRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/*
+✅ 보관 기간(retention)이 지난 주문을 orders_archive 로 옮기는 백그라운드 작업
+
+    ➡️ jpa-advance.order-archive.cron 주기로 실행, 오래된 주문을 batch-size 건씩 옮김 (배치마다 별도 트랜잭션)
+
+    ➡️ 배치 사이에 batch-pause 만큼 쉬어서 주문 처리 트랜잭션과 레플리카 복제가 밀리지 않도록 함
+
+    ➡️ 옮긴 주문 수는 jpa-advance.order-archive.archived 지표로 수집
+ */
+
+@Slf4j
+@Service
+public class OrderArchiveService {
+
+    private final OrderArchiveJdbcRepository orderArchiveJdbcRepository;
+    private final Duration retention;
+    private final int batchSize;
+    private final Duration batchPause;
+    private final Counter archivedCounter;
+
+    public OrderArchiveService(OrderArchiveJdbcRepository orderArchiveJdbcRepository,
+                               MeterRegistry meterRegistry,
+                               @Value("${jpa-advance.order-archive.retention:365d}") Duration retention,
+                               @Value("${jpa-advance.order-archive.batch-size:1000}") int batchSize,
+                               @Value("${jpa-advance.order-archive.batch-pause:100ms}") Duration batchPause) {
+        this.orderArchiveJdbcRepository = orderArchiveJdbcRepository;
+        this.retention = retention;
+        this.batchSize = batchSize;
+        this.batchPause = batchPause;
+        this.archivedCounter = meterRegistry.counter("jpa-advance.order-archive.archived");
+    }
+
+    @Scheduled(cron = "${jpa-advance.order-archive.cron:0 30 3 * * *}")
+    public long archive() {
+        return archiveBefore(LocalDateTime.now().minus(retention));
+    }
+
+    // cutoff 이전 주문을 모두 옮기고 옮긴 주문 수를 반환
+    public long archiveBefore(LocalDateTime cutoff) {
+        long start = System.nanoTime();
+        long total = 0;
+        int moved;
+        do {
+            moved = orderArchiveJdbcRepository.archiveBatch(cutoff, batchSize);
+            total += moved;
+            archivedCounter.increment(moved);
+        } while (moved == batchSize && pause());
+
+        log.info("archived {} orders before {} in {}ms", total, cutoff, (System.nanoTime() - start) / 1_000_000);
+        return total;
+    }
+
+    // 다음 배치 전에 쉼, 중단되면 false
+    private boolean pause() {
+        try {
+            Thread.sleep(batchPause.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
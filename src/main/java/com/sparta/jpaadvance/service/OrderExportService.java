@@ -0,0 +1,112 @@
+package com.sparta.jpaadvance.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.jpaadvance.entity.Order;
+import com.sparta.jpaadvance.repository.OrderRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/*
+✅ 전체 주문을 CSV / JSON 으로 내보내는 서비스
+
+    ➡️ findAll() 은 orders 테이블 전체를 List 로 만들어 메모리가 테이블 크기만큼 필요
+
+    ➡️ OrderRepository.streamAllWithFoodAndUserBy() 로 한 건씩 읽어 바로 출력하고,
+       CLEAR_INTERVAL 건마다 영속성 컨텍스트를 비워서 내보내는 동안 메모리 사용량을 일정하게 유지
+
+    ➡️ 가격(price)은 주문 시점 금액(Order.amount)으로 출력하여 주문 목록, 주문 통계와 같은 값
+ */
+
+@Service
+@RequiredArgsConstructor
+public class OrderExportService {
+
+    // 영속성 컨텍스트를 비우는 주기 (읽은 주문 수)
+    static final int CLEAR_INTERVAL = 1000;
+
+    private static final String CSV_HEADER = "order_id,user_id,user_name,food_id,food_name,price,order_date";
+
+    private final OrderRepository orderRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    // 전체 주문을 CSV 로 출력하고 출력한 주문 수를 반환
+    @Transactional(readOnly = true)
+    public long exportCsv(Writer writer) throws IOException {
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+
+        long count = forEachOrder(order -> {
+            writer.write(order.getId() + "," +
+                    order.getUser().getId() + "," +
+                    csv(order.getUser().getName()) + "," +
+                    order.getFood().getId() + "," +
+                    csv(order.getFood().getName()) + "," +
+                    order.getAmount() + "," +
+                    order.getOrderDate());
+            writer.write('\n');
+        });
+        writer.flush();
+        return count;
+    }
+
+    // 전체 주문을 JSON 배열로 출력하고 출력한 주문 수를 반환
+    @Transactional(readOnly = true)
+    public long exportJson(OutputStream outputStream) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.writeStartArray();
+            long count = forEachOrder(order -> {
+                generator.writeStartObject();
+                generator.writeNumberField("orderId", order.getId());
+                generator.writeNumberField("userId", order.getUser().getId());
+                generator.writeStringField("userName", order.getUser().getName());
+                generator.writeNumberField("foodId", order.getFood().getId());
+                generator.writeStringField("foodName", order.getFood().getName());
+                generator.writeNumberField("price", order.getAmount());
+                generator.writeStringField("orderDate", String.valueOf(order.getOrderDate()));
+                generator.writeEndObject();
+            });
+            generator.writeEndArray();
+            return count;
+        }
+    }
+
+    private long forEachOrder(OrderWriter orderWriter) throws IOException {
+        long count = 0;
+        try (Stream<Order> orders = orderRepository.streamAllWithFoodAndUserBy()) {
+            Iterator<Order> iterator = orders.iterator();
+            while (iterator.hasNext()) {
+                orderWriter.write(iterator.next());
+                if (++count % CLEAR_INTERVAL == 0) {
+                    entityManager.clear(); // 이미 출력한 주문, 사용자, 음식을 영속성 컨텍스트에서 제거
+                }
+            }
+        }
+        return count;
+    }
+
+    // 쉼표, 따옴표, 줄바꿈(\n, \r)이 포함된 값은 큰따옴표로 감싸고 내부 따옴표는 두 번 씀
+    private static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+
+    @FunctionalInterface
+    private interface OrderWriter {
+        void write(Order order) throws IOException;
+    }
+}
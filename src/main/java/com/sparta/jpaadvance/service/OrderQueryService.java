@@ -0,0 +1,68 @@
+package com.sparta.jpaadvance.service;
+
+import com.sparta.jpaadvance.dto.OrderCursor;
+import com.sparta.jpaadvance.dto.OrderPage;
+import com.sparta.jpaadvance.dto.OrderSummary;
+import com.sparta.jpaadvance.repository.OrderRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/*
+✅ 주문 조회 서비스
+
+    ➡️ 주문 목록은 최신순 키셋 페이지네이션으로 조회 (OrderRepository.findSummaryFirstPage / findSummaryBefore)
+
+    ➡️ 회원의 주문 내역은 기간을 반드시 받아서 조회 (파티션 테이블에서 해당 기간의 파티션만 읽도록)
+ */
+
+@Service
+@RequiredArgsConstructor
+public class OrderQueryService {
+
+    public static final int MAX_PAGE_SIZE = 100;
+    public static final int MAX_PERIOD_DAYS = 366;
+
+    private final OrderRepository orderRepository;
+
+    // cursor 가 없으면 첫 페이지, 있으면 cursor 다음 페이지를 size 건 조회
+    @Transactional(readOnly = true)
+    public OrderPage findOrders(String cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("size 는 1 ~ " + MAX_PAGE_SIZE + " 사이여야 합니다 : " + size);
+        }
+
+        // 다음 페이지가 있는지 알기 위해 한 건 더 조회
+        Limit limit = Limit.of(size + 1);
+        List<OrderSummary> orderList;
+        if (cursor == null || cursor.isBlank()) {
+            orderList = orderRepository.findSummaryFirstPage(limit);
+        } else {
+            OrderCursor orderCursor = OrderCursor.decode(cursor);
+            orderList = orderRepository.findSummaryBefore(orderCursor.orderDate(), orderCursor.id(), limit);
+        }
+
+        if (orderList.size() <= size) {
+            return new OrderPage(orderList, null);
+        }
+        List<OrderSummary> content = orderList.subList(0, size);
+        return new OrderPage(content, OrderCursor.of(content.get(size - 1)).encode());
+    }
+
+    // 회원의 from ~ to (to 포함) 주문을 최신순으로 조회, 기간은 최대 MAX_PERIOD_DAYS 일
+    @Transactional(readOnly = true)
+    public List<OrderSummary> findOrdersOfUser(Long userId, LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("from 은 to 보다 늦을 수 없습니다 : " + from + " ~ " + to);
+        }
+        if (ChronoUnit.DAYS.between(from, to) + 1 > MAX_PERIOD_DAYS) {
+            throw new IllegalArgumentException("기간은 최대 " + MAX_PERIOD_DAYS + "일입니다 : " + from + " ~ " + to);
+        }
+        return orderRepository.findSummaryByUserIdAndPeriod(userId, from.atStartOfDay(), to.plusDays(1).atStartOfDay());
+    }
+}
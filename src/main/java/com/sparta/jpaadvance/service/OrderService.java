@@ -0,0 +1,69 @@
+package com.sparta.jpaadvance.service;
+
+import com.sparta.jpaadvance.dto.OrderSummary;
+import com.sparta.jpaadvance.entity.Food;
+import com.sparta.jpaadvance.entity.Order;
+import com.sparta.jpaadvance.entity.User;
+import com.sparta.jpaadvance.repository.FoodRepository;
+import com.sparta.jpaadvance.repository.OrderRepository;
+import com.sparta.jpaadvance.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.NoSuchElementException;
+
+/*
+✅ 주문 생성, 단건 조회 서비스
+
+    ➡️ 주문 생성 : 회원과 음식을 공유 잠금으로 조회한 뒤 주문을 저장하고 OrderSummary 로 반환
+
+            - MySQL 의 orders 에는 외래 키가 없으므로(파티션 테이블) 확인한 회원, 음식이 커밋 전에 삭제되지 않도록
+              SELECT ... FOR SHARE 로 조회 (2차 캐시를 거치지 않음, BulkInsertRepository.saveAllOrders 와 같은 방식)
+
+            - 음식 삭제(FoodService.deleteFoodsOfUser 의 FOR UPDATE)와는 서로 기다리고, 주문 저장끼리는 막지 않음
+
+    ➡️ 단건 조회 : 엔티티 대신 OrderSummary DTO 로 조회 (OrderRepository.findSummaryById)
+
+    📢 요청 스레드가 가상 스레드여도(spring.threads.virtual.enabled) 트랜잭션 동안 커넥션을 하나씩 사용하므로
+       동시에 DB 작업을 하는 요청 수는 커넥션 풀 크기(maximum-pool-size)를 넘지 않음
+
+    📢 주문 생성은 회원, 음식을 읽기만 하고 수정하지 않으므로 version 이 바뀌지 않아 동시에 주문해도 충돌하지 않음
+       (가격 변경 같은 음식 수정은 공유 잠금이 풀릴 때까지만 기다림, 통계는 insert ... on duplicate key update order_count = order_count + ... 로 DB 에서 증가)
+ */
+
+@Service
+@RequiredArgsConstructor
+public class OrderService {
+
+    private final OrderRepository orderRepository;
+    private final UserRepository userRepository;
+    private final FoodRepository foodRepository;
+
+    // 회원이 음식을 주문, 회원이나 음식이 없으면 NoSuchElementException
+    @Transactional
+    public OrderSummary placeOrder(Long userId, Long foodId) {
+        if (userId == null || foodId == null) {
+            throw new IllegalArgumentException("userId, foodId 는 필수입니다");
+        }
+        User user = userRepository.findForShareById(userId)
+                .orElseThrow(() -> new NoSuchElementException("회원이 없습니다 : " + userId));
+        Food food = foodRepository.findForShareById(foodId)
+                .orElseThrow(() -> new NoSuchElementException("음식이 없습니다 : " + foodId));
+
+        Order order = new Order();
+        order.setUser(user);
+        order.setFood(food);
+        orderRepository.save(order);
+
+        return new OrderSummary(order.getId(), user.getId(), user.getName(),
+                food.getId(), food.getName(), order.getAmount(), order.getOrderDate()); // 저장할 때 채운 주문 시점 금액
+    }
+
+    // 주문 한 건을 조회, 없으면 NoSuchElementException
+    @Transactional(readOnly = true)
+    public OrderSummary findOrder(Long orderId) {
+        return orderRepository.findSummaryById(orderId)
+                .orElseThrow(() -> new NoSuchElementException("주문이 없습니다 : " + orderId));
+    }
+}
@@ -0,0 +1,88 @@
+package com.sparta.jpaadvance.service;
+
+import com.sparta.jpaadvance.entity.FoodOrderStats;
+import com.sparta.jpaadvance.entity.UserOrderStats;
+import com.sparta.jpaadvance.repository.FoodOrderStatsRepository;
+import com.sparta.jpaadvance.repository.OrderStatsJdbcRepository;
+import com.sparta.jpaadvance.repository.UserOrderStatsRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/*
+✅ 회원별, 음식별 주문 통계 조회와 재집계 서비스
+
+    ➡️ 조회 : 통계 테이블을 기본 키로 한 건 조회 (주문 수와 관계없이 일정한 비용)
+
+    ➡️ 재집계 : jpa-advance.order-stats.rebuild-cron 주기로 통계 테이블을 orders, orders_archive 기준으로 다시 채움
+
+            - 콜백을 거치지 않은 변경(벌크 삭제, JDBC 로 직접 변경한 주문 등)으로 어긋난 값을 맞춤
+
+            - 통계 키(user_id, food_id)를 rebuild-range-size 개씩 나누어 구간마다 별도 트랜잭션으로 실행
+              (주문 행의 공유 락과 트랜잭션이 구간 크기만큼만 유지되어 재집계 중에도 주문 저장/삭제가 오래 막히지 않음)
+
+            - 구간이 커밋될 때마다 반영되므로, 재집계 중에는 다시 채운 구간과 이전 통계가 섞여 보일 수 있음
+ */
+
+@Slf4j
+@Service
+public class OrderStatsService {
+
+    private final UserOrderStatsRepository userOrderStatsRepository;
+    private final FoodOrderStatsRepository foodOrderStatsRepository;
+    private final OrderStatsJdbcRepository orderStatsJdbcRepository;
+    private final int rangeSize; // 한 트랜잭션으로 다시 채울 통계 키 구간의 크기
+
+    public OrderStatsService(UserOrderStatsRepository userOrderStatsRepository,
+                             FoodOrderStatsRepository foodOrderStatsRepository,
+                             OrderStatsJdbcRepository orderStatsJdbcRepository,
+                             @Value("${jpa-advance.order-stats.rebuild-range-size:1000}") int rangeSize) {
+        if (rangeSize < 1) {
+            throw new IllegalArgumentException("rebuild-range-size 는 1 이상이어야 합니다 : " + rangeSize);
+        }
+        this.userOrderStatsRepository = userOrderStatsRepository;
+        this.foodOrderStatsRepository = foodOrderStatsRepository;
+        this.orderStatsJdbcRepository = orderStatsJdbcRepository;
+        this.rangeSize = rangeSize;
+    }
+
+    // 회원의 주문 통계, 주문이 없으면 0
+    @Transactional(readOnly = true)
+    public UserOrderStats findUserStats(Long userId) {
+        return userOrderStatsRepository.findById(userId).orElseGet(() -> new UserOrderStats(userId));
+    }
+
+    // 음식의 주문 통계, 주문이 없으면 0
+    @Transactional(readOnly = true)
+    public FoodOrderStats findFoodStats(Long foodId) {
+        return foodOrderStatsRepository.findById(foodId).orElseGet(() -> new FoodOrderStats(foodId));
+    }
+
+    // 음식별, 회원별 통계를 다시 채우고 다시 채운 회원 통계 행 수를 반환
+    @Scheduled(cron = "${jpa-advance.order-stats.rebuild-cron:0 0 4 * * *}")
+    public int rebuild() {
+        long start = System.nanoTime();
+        int foods = rebuild(OrderStatsJdbcRepository.Target.FOOD);
+        int users = rebuild(OrderStatsJdbcRepository.Target.USER);
+        log.info("order stats rebuilt : {} users, {} foods in {}ms", users, foods, (System.nanoTime() - start) / 1_000_000);
+        return users;
+    }
+
+    // 통계 키 구간을 rangeSize 개씩 나누어 구간마다 별도 트랜잭션으로 다시 채움
+    private int rebuild(OrderStatsJdbcRepository.Target target) {
+        Optional<OrderStatsJdbcRepository.KeyRange> keyRange = orderStatsJdbcRepository.keyRange(target);
+        if (keyRange.isEmpty()) {
+            return 0;
+        }
+        long last = keyRange.get().to();
+        int rows = 0;
+        for (long from = keyRange.get().from(); from <= last; from += rangeSize) {
+            rows += orderStatsJdbcRepository.rebuildRange(target, from, Math.min(from + rangeSize - 1, last));
+        }
+        return rows;
+    }
+}
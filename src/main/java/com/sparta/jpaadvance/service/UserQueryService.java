@@ -0,0 +1,56 @@
+package com.sparta.jpaadvance.service;
+
+import com.sparta.jpaadvance.entity.Food;
+import com.sparta.jpaadvance.entity.User;
+import com.sparta.jpaadvance.repository.FoodRepository;
+import com.sparta.jpaadvance.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/*
+✅ 회원, 음식 조회 서비스 (읽기 전용 트랜잭션)
+
+    ➡️ 일반 트랜잭션에서 엔티티를 조회하면 Hibernate 는 변경 감지(dirty checking)를 위해
+       엔티티마다 조회 시점의 값을 복사한 스냅샷을 영속성 컨텍스트에 보관하고, 커밋 전에 flush 하면서 모든 엔티티를 스냅샷과 비교함
+
+    ➡️ @Transactional(readOnly = true) 이면 Spring 이 Hibernate 세션을
+
+            - setDefaultReadOnly(true) : 조회한 엔티티를 읽기 전용으로 관리하여 스냅샷을 만들지 않음
+
+            - FlushMode.MANUAL : 커밋할 때 flush(변경 감지)를 하지 않음
+
+       으로 설정하므로 User.foodList 처럼 큰 엔티티 그래프를 조회해도 메모리 사용량과 커밋 시간이 줄어듦
+
+    ➡️ 읽기/쓰기 분리가 켜져 있으면 레플리카에서 조회 (RoutingDataSourceConfig)
+
+    📢 이 서비스로 조회한 엔티티를 수정해도 DB 에 반영되지 않음 : 수정은 쓰기 트랜잭션에서 다시 조회해서 처리
+ */
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class UserQueryService {
+
+    private final UserRepository userRepository;
+    private final FoodRepository foodRepository;
+
+    // 회원과 음식 목록을 한 번의 쿼리로 조회 (쓰기 트랜잭션에 참여해도 읽기 전용)
+    public Optional<User> findUserWithFoods(String name) {
+        return Optional.ofNullable(userRepository.findWithFoodListReadOnlyByName(name));
+    }
+
+    // 회원 페이지를 음식 목록과 함께 조회 (id 페이징 후 fetch join)
+    public Page<User> findUsersWithFoods(Pageable pageable) {
+        return userRepository.findWithFoodListAll(pageable);
+    }
+
+    // 음식을 회원과 함께 조회
+    public Optional<Food> findFoodWithUser(Long foodId) {
+        return foodRepository.findWithUserById(foodId);
+    }
+}
@@ -0,0 +1,69 @@
+package com.sparta.jpaadvance.trace;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+✅ 느린 쿼리를 별도 스레드에서 로그로 남기는 클래스
+
+    ➡️ SQL 을 실행한 스레드는 크기가 정해진 큐에 기록만 넣고 바로 돌아감 (로그 출력을 기다리지 않음)
+
+    ➡️ 큐가 가득 차면 기록을 버리고 버린 개수를 셈 : 느린 쿼리가 몰려도 요청 처리 스레드가 막히지 않도록
+ */
+
+@Slf4j
+public class SlowQueryLogger implements AutoCloseable {
+
+    private final BlockingQueue<SqlTrace> queue;
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final Thread worker;
+
+    public SlowQueryLogger(int queueSize) {
+        this.queue = new ArrayBlockingQueue<>(queueSize);
+        this.worker = new Thread(this::run, "slow-query-logger");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    // 큐에 넣지 못하면 false
+    public boolean offer(SqlTrace trace) {
+        if (queue.offer(trace)) {
+            return true;
+        }
+        droppedCount.incrementAndGet();
+        return false;
+    }
+
+    public long droppedCount() {
+        return droppedCount.get();
+    }
+
+    private void run() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                write(queue.take());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // 종료 전에 남은 기록 출력
+        SqlTrace trace;
+        while ((trace = queue.poll()) != null) {
+            write(trace);
+        }
+    }
+
+    private void write(SqlTrace trace) {
+        log.warn("slow query [{}] {}ms (binds={}, batch={}, rows={}, success={}) : {}",
+                trace.dataSourceName(), trace.elapsedMillis(), trace.bindCount(), trace.batchSize(), trace.rowCount(), trace.success(), trace.sql());
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        worker.interrupt();
+        worker.join(1000);
+    }
+}
@@ -0,0 +1,31 @@
+package com.sparta.jpaadvance.trace;
+
+import java.time.Instant;
+
+/*
+✅ 실행된 SQL 한 건의 기록
+
+    ➡️ dataSourceName : SQL 을 실행한 DataSource 빈 이름 (읽기/쓰기 분리 시 primaryDataSource / replicaDataSource)
+
+    ➡️ bindCount : 바인딩된 파라미터 수 (배치는 모든 배치 항목의 합)
+
+    ➡️ rowCount : INSERT/UPDATE/DELETE 는 변경된 행 수(배치는 합계), SELECT 는 읽은 행 수
+
+            - SELECT 는 ResultSet 을 닫을 때 채워지므로 그 전에는 -1, select-row-count=false 로 끈 경우에도 -1
+
+            - 배치를 rewriteBatchedStatements 로 합쳐서 드라이버가 행 수를 알려주지 않으면 -1
+ */
+
+public record SqlTrace(Instant executedAt,
+                       String dataSourceName,
+                       String sql,
+                       int bindCount,
+                       int batchSize,
+                       long elapsedMillis,
+                       long rowCount,
+                       boolean success) {
+
+    public SqlTrace withRowCount(long rowCount) {
+        return new SqlTrace(executedAt, dataSourceName, sql, bindCount, batchSize, elapsedMillis, rowCount, success);
+    }
+}
@@ -0,0 +1,28 @@
+package com.sparta.jpaadvance.trace;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+
+import java.util.List;
+
+/*
+✅ 링 버퍼에 기록된 최근 SQL 을 조회하는 Actuator 엔드포인트
+
+    ➡️ GET /actuator/sqltrace?limit=100
+ */
+
+@Endpoint(id = "sqltrace")
+@RequiredArgsConstructor
+public class SqlTraceEndpoint {
+
+    private static final int DEFAULT_LIMIT = 100;
+
+    private final SqlTraceRecorder sqlTraceRecorder;
+
+    @ReadOperation
+    public List<SqlTrace> recent(@Nullable Integer limit) {
+        return sqlTraceRecorder.recent(limit != null ? limit : DEFAULT_LIMIT);
+    }
+}
@@ -0,0 +1,200 @@
+package com.sparta.jpaadvance.trace;
+
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ConnectionInfo;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ProxyConfig;
+import net.ttddyy.dsproxy.proxy.ProxyJdbcObject;
+import net.ttddyy.dsproxy.proxy.ResultSetProxyLogicFactory;
+import net.ttddyy.dsproxy.proxy.SimpleResultSetProxyLogic;
+
+import java.lang.reflect.Method;
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.LongConsumer;
+import java.util.stream.Collectors;
+
+/*
+✅ DataSource 프록시(datasource-proxy)가 실행한 모든 SQL 을 기록하는 리스너
+
+    ➡️ show_sql 은 모든 SQL 을 실행한 스레드에서 바로 stdout 에 출력하므로 부하가 높을 때 처리량이 떨어짐
+
+    ➡️ SQL, 바인딩 파라미터 수, 실행 시간, 행 수를 크기가 정해진 링 버퍼에 저장
+
+            - SELECT 의 행 수는 실행 시점에는 알 수 없으므로 ResultSet 프록시(resultSetProxyLogicFactory)로
+              next() 가 true 를 반환한 횟수를 세고, ResultSet 을 닫을 때 기록을 갱신
+              (이때 느린 쿼리 로그, 디버그 로그도 행 수와 함께 남김)
+
+            - 버퍼가 가득 차면 가장 오래된 기록을 덮어쓰므로 메모리 사용량이 일정함
+
+            - 락 없이 기록하고, 최근 기록은 /actuator/sqltrace 로 조회 (SqlTraceEndpoint)
+
+    ➡️ 실행 시간이 slowQueryThreshold 이상이면 SlowQueryLogger 가 별도 스레드에서 로그로 남김
+
+    ➡️ 모든 SQL 을 로그로 보려면 logging.level.com.sparta.jpaadvance.trace.SqlTraceRecorder=debug
+ */
+
+@Slf4j
+public class SqlTraceRecorder implements QueryExecutionListener {
+
+    private final AtomicReferenceArray<SqlTrace> buffer;
+    private final AtomicLong sequence = new AtomicLong();
+    private final long slowQueryThresholdMillis;
+    private final SlowQueryLogger slowQueryLogger;
+    // 방금 만든 ResultSet 프록시, 같은 스레드에서 바로 이어지는 afterQuery 가 꺼내서 기록과 연결
+    private final ThreadLocal<RowCountingResultSetProxyLogic> createdResultSet = new ThreadLocal<>();
+
+    public SqlTraceRecorder(int bufferSize, Duration slowQueryThreshold, SlowQueryLogger slowQueryLogger) {
+        this.buffer = new AtomicReferenceArray<>(bufferSize);
+        this.slowQueryThresholdMillis = slowQueryThreshold.toMillis();
+        this.slowQueryLogger = slowQueryLogger;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        RowCountingResultSetProxyLogic resultSetLogic = createdResultSet.get();
+        createdResultSet.remove();
+
+        SqlTrace trace = new SqlTrace(
+                Instant.now(),
+                execInfo.getDataSourceName(),
+                queryInfoList.stream().map(QueryInfo::getQuery).collect(Collectors.joining("; ")),
+                queryInfoList.stream()
+                        .flatMap(queryInfo -> queryInfo.getParametersList().stream())
+                        .mapToInt(List::size)
+                        .sum(),
+                execInfo.isBatch() ? execInfo.getBatchSize() : 0,
+                execInfo.getElapsedTime(),
+                rowCount(execInfo.getResult()),
+                execInfo.isSuccess());
+
+        int index = (int) (sequence.getAndIncrement() % buffer.length());
+        buffer.set(index, trace);
+
+        if (resultSetLogic != null && resultSetLogic.isProxyOf(execInfo.getResult())) {
+            // SELECT : ResultSet 을 닫을 때 읽은 행 수로 기록을 갱신 (그 사이 덮어쓴 기록은 그대로 둠)
+            resultSetLogic.onClose(rows -> {
+                SqlTrace counted = trace.withRowCount(rows);
+                buffer.compareAndSet(index, trace, counted);
+                completed(counted);
+            });
+        } else {
+            completed(trace);
+        }
+    }
+
+    // SELECT 결과(ResultSet)를 감싸 읽은 행 수를 세는 프록시, ProxyDataSourceBuilder.proxyResultSet 에 등록
+    public ResultSetProxyLogicFactory resultSetProxyLogicFactory() {
+        return (resultSet, connectionInfo, proxyConfig) -> {
+            RowCountingResultSetProxyLogic logic = new RowCountingResultSetProxyLogic(resultSet, connectionInfo, proxyConfig);
+            createdResultSet.set(logic);
+            return logic;
+        };
+    }
+
+    private void completed(SqlTrace trace) {
+        if (trace.elapsedMillis() >= slowQueryThresholdMillis) {
+            slowQueryLogger.offer(trace);
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("[{}] {}ms (binds={}, rows={}) : {}",
+                    trace.dataSourceName(), trace.elapsedMillis(), trace.bindCount(), trace.rowCount(), trace.sql());
+        }
+    }
+
+    // 최근 기록부터 최대 limit 건
+    public List<SqlTrace> recent(int limit) {
+        long end = sequence.get();
+        long start = Math.max(0, end - Math.min(limit, buffer.length()));
+        List<SqlTrace> traces = new ArrayList<>();
+        for (long i = end - 1; i >= start; i--) {
+            SqlTrace trace = buffer.get((int) (i % buffer.length()));
+            if (trace != null) {
+                traces.add(trace);
+            }
+        }
+        return traces;
+    }
+
+    // 지금까지 기록한 SQL 수 (링 버퍼에서 덮어쓴 기록 포함)
+    public long totalCount() {
+        return sequence.get();
+    }
+
+    // 변경된 행 수, SELECT 처럼 실행 결과로 알 수 없으면 -1
+    private static long rowCount(Object result) {
+        if (result instanceof Number count) {
+            return count.longValue();
+        }
+        if (result instanceof int[] counts) {
+            long sum = 0;
+            for (int count : counts) {
+                if (count < 0) {
+                    return -1; // Statement.SUCCESS_NO_INFO : rewriteBatchedStatements 로 합쳐진 배치
+                }
+                sum += count;
+            }
+            return sum;
+        }
+        if (result instanceof long[] counts) {
+            long sum = 0;
+            for (long count : counts) {
+                if (count < 0) {
+                    return -1;
+                }
+                sum += count;
+            }
+            return sum;
+        }
+        return -1;
+    }
+
+    // next() 가 true 를 반환한 횟수를 세고, close() 할 때 onClose 에 전달
+    private static class RowCountingResultSetProxyLogic extends SimpleResultSetProxyLogic {
+
+        private final ResultSet resultSet;
+        private long rows;
+        private boolean closed;
+        private LongConsumer onClose;
+
+        RowCountingResultSetProxyLogic(ResultSet resultSet, ConnectionInfo connectionInfo, ProxyConfig proxyConfig) {
+            super(resultSet, connectionInfo, proxyConfig);
+            this.resultSet = resultSet;
+        }
+
+        boolean isProxyOf(Object result) {
+            return result instanceof ProxyJdbcObject proxy && proxy.getTarget() == resultSet;
+        }
+
+        void onClose(LongConsumer onClose) {
+            this.onClose = onClose;
+        }
+
+        @Override
+        protected Object performProxyLogic(Object proxy, Method method, Object[] args, MethodExecutionContext context) throws Throwable {
+            Object result = super.performProxyLogic(proxy, method, args, context);
+            String name = method.getName();
+            if (name.equals("next") && Boolean.TRUE.equals(result)) {
+                rows++;
+            } else if (name.equals("close") && !closed) {
+                closed = true;
+                if (onClose != null) {
+                    onClose.accept(rows);
+                }
+            }
+            return result;
+        }
+    }
+}
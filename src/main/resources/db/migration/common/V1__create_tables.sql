@@ -0,0 +1,34 @@
+-- ✅ 기준(baseline) 스키마 : Flyway 를 도입하기 전 ddl-auto=update 로 만들던 users, food, orders 테이블
+--
+--    ➡️ MySQL, H2(MySQL 호환 모드) 모두에서 실행되는 SQL 만 사용 (DB 별 SQL 은 db/migration/{vendor})
+--
+--    ➡️ 이후 추가된 테이블, 인덱스, 열은 V2 부터의 마이그레이션이 만듦
+--
+--    📢 ddl-auto=update 로 만들어진 기존 DB 는 spring.flyway.baseline-on-migrate 로 이 버전을 적용된 것으로 기록하고 V2 부터 실행
+--       (그래서 이 스크립트는 기존 DB 에 이미 있는 것만 만들어야 함)
+
+CREATE TABLE users (
+    id   BIGINT NOT NULL AUTO_INCREMENT,
+    name VARCHAR(255),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE food (
+    id      BIGINT NOT NULL AUTO_INCREMENT,
+    name    VARCHAR(255),
+    price   DOUBLE NOT NULL,
+    user_id BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_food_user_id FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+-- 외래 키는 MySQL 에서 파티션 테이블로 전환할 때 삭제 (db/migration/mysql/V3)
+CREATE TABLE orders (
+    id         BIGINT NOT NULL AUTO_INCREMENT,
+    order_date DATETIME(6),
+    food_id    BIGINT,
+    user_id    BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_orders_food_id FOREIGN KEY (food_id) REFERENCES food (id),
+    CONSTRAINT fk_orders_user_id FOREIGN KEY (user_id) REFERENCES users (id)
+);
@@ -0,0 +1,30 @@
+-- ✅ 주문 보관, 주문 통계 테이블 : OrderArchive, UserOrderStats, FoodOrderStats
+--
+--    ➡️ 통계/보관 테이블에는 외래 키를 만들지 않음
+--
+--    📢 Flyway 를 도입하기 전 ddl-auto=update 로 이미 만들어진 DB 가 있으므로 없을 때만 생성 (IF NOT EXISTS)
+
+CREATE TABLE IF NOT EXISTS orders_archive (
+    id          BIGINT      NOT NULL,
+    order_date  DATETIME(6) NOT NULL,
+    archived_at DATETIME(6) NOT NULL,
+    food_id     BIGINT,
+    user_id     BIGINT,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS user_order_stats (
+    user_id         BIGINT NOT NULL,
+    order_count     BIGINT NOT NULL,
+    total_amount    DOUBLE NOT NULL,
+    last_order_date DATETIME(6),
+    PRIMARY KEY (user_id)
+);
+
+CREATE TABLE IF NOT EXISTS food_order_stats (
+    food_id         BIGINT NOT NULL,
+    order_count     BIGINT NOT NULL,
+    total_amount    DOUBLE NOT NULL,
+    last_order_date DATETIME(6),
+    PRIMARY KEY (food_id)
+);
@@ -0,0 +1,9 @@
+-- ✅ 낙관적 락(@Version) 버전 열 : User.version, Food.version
+--
+--    ➡️ 수정할 때마다 1 씩 증가, UPDATE ... WHERE id = ? AND version = ? 로 다른 트랜잭션이 먼저 수정했는지 확인
+--
+--    ➡️ 기존 row 와 JDBC 배치 저장(BulkInsertRepository)으로 넣은 row 는 0 부터 시작
+
+ALTER TABLE users ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
+
+ALTER TABLE food ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
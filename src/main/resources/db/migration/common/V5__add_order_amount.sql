@@ -0,0 +1,15 @@
+-- ✅ 주문 금액 열 : Order.amount, OrderArchive.amount
+--
+--    ➡️ 주문할 때의 음식 가격을 주문 행에 저장, 이후 음식 가격이 바뀌어도 그대로 유지
+--
+--    ➡️ 주문 통계(user_order_stats, food_order_stats)의 증감, 재집계는 food.price 대신 이 값을 사용
+--
+--    📢 기존 주문은 지금의 음식 가격으로 채움 (주문 시점의 가격은 남아 있지 않음)
+
+ALTER TABLE orders ADD COLUMN amount DOUBLE DEFAULT 0 NOT NULL;
+
+ALTER TABLE orders_archive ADD COLUMN amount DOUBLE DEFAULT 0 NOT NULL;
+
+UPDATE orders SET amount = COALESCE((SELECT f.price FROM food f WHERE f.id = orders.food_id), 0);
+
+UPDATE orders_archive SET amount = COALESCE((SELECT f.price FROM food f WHERE f.id = orders_archive.food_id), 0);
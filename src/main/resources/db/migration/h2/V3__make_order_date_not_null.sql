@@ -0,0 +1,7 @@
+-- ✅ orders.order_date 를 not null 로 변경 (H2 전용, MySQL 은 V3__partition_orders_by_order_date.sql 에서 함께 변경)
+--
+--    ➡️ 파티션 키이므로 항상 값이 있어야 함 (Order.orderDate 는 @CreatedDate 로 항상 채워짐)
+--
+--    ➡️ 파티션하지 않으므로 외래 키(V1)는 그대로 유지
+
+ALTER TABLE orders ALTER COLUMN order_date SET NOT NULL;
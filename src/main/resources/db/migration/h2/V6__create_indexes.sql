@@ -0,0 +1,22 @@
+-- ✅ 조회 조건, 조인 열 인덱스 (H2, 같은 인덱스를 MySQL 은 db/migration/mysql/V6__create_indexes.sql 에서 생성)
+--
+--    ➡️ 이름 조회 : UserRepository.findByName, findWithFoodListByName (음식은 이름으로 조회하지 않으므로 인덱스 없음)
+--
+--    ➡️ 외래 키(참조) 열 : User.foodList 지연 로딩/배치 페치(food.user_id), 회원별/음식별 주문 조회(orders.user_id, orders.food_id)
+--
+--    ➡️ 주문 목록 키셋 페이지네이션과 기간 조회 : (order_date, id), (user_id, order_date)
+--
+--    ➡️ 보관된 주문 : 회원별 기간 조회 (user_id, order_date), 음식 삭제 전 참조 확인 (food_id)
+--
+--    📢 ddl-auto=update 로 만들어진 기존 DB 에는 엔티티의 @Index 로 같은 이름의 인덱스가 이미 있을 수 있으므로 없을 때만 생성
+
+CREATE INDEX IF NOT EXISTS idx_users_name ON users (name);
+
+CREATE INDEX IF NOT EXISTS idx_food_user_id ON food (user_id);
+
+CREATE INDEX IF NOT EXISTS idx_orders_order_date_id ON orders (order_date, id);
+CREATE INDEX IF NOT EXISTS idx_orders_user_id_order_date ON orders (user_id, order_date);
+CREATE INDEX IF NOT EXISTS idx_orders_food_id ON orders (food_id);
+
+CREATE INDEX IF NOT EXISTS idx_orders_archive_user_id_order_date ON orders_archive (user_id, order_date);
+CREATE INDEX IF NOT EXISTS idx_orders_archive_food_id ON orders_archive (food_id);
@@ -0,0 +1,86 @@
+-- ✅ orders 테이블을 주문일(order_date) 월 단위 RANGE 파티션 테이블로 전환 (MySQL 8 전용, H2 는 파티션을 지원하지 않음)
+--
+--    ➡️ 파티션 테이블 규칙
+--
+--            - 모든 기본 키/유니크 키에 파티션 키가 포함되어야 함 : 기본 키 (id, order_date)
+--
+--            - 외래 키를 가질 수 없음 : orders 의 food_id, user_id 외래 키를 삭제 (파티션하지 않는 H2 는 V1 의 외래 키를 유지)
+--
+--            - 파티션 키는 null 일 수 없음 : order_date 를 not null 로 변경
+--
+--    ➡️ where 절에 order_date 범위 조건이 있으면 해당 기간의 파티션만 읽음 (파티션 프루닝)
+--
+--            - EXPLAIN select ... from orders where order_date >= '2026-06-01' and order_date < '2026-07-01' 의 partitions 열로 확인
+--
+--    📢 ALTER TABLE ... PARTITION BY 는 테이블 전체를 다시 쓰므로 주문이 많은 기존 DB 는 주문을 받지 않는 시간에 배포
+--
+--    📢 ddl-auto=update 로 만들어진 기존 DB 는 외래 키 이름이 Hibernate 가 만든 FKxxxx 이므로
+--       이름으로 삭제하지 않고 information_schema 에서 orders 의 외래 키를 모두 찾아 삭제
+--
+--    📢 MySQL 은 외래 키를 만들 때 쓸 인덱스가 없으면 외래 키와 같은 이름의 인덱스를 만들고, 외래 키를 삭제해도 인덱스는 남음
+--       외래 키를 삭제하기 전에 외래 키와 이름이 같은 인덱스를 찾아 두었다가 함께 삭제 (food_id, user_id 인덱스는 V6 에서 생성)
+--
+--    📢 p_future 에 데이터가 쌓이기 전에 다음 달 파티션을 추가하는 마이그레이션을 만듦
+--
+--            ALTER TABLE orders REORGANIZE PARTITION p_future INTO (
+--                PARTITION p2028_01 VALUES LESS THAN ('2028-02-01'),
+--                PARTITION p_future VALUES LESS THAN (MAXVALUE));
+--
+--    📢 보관 기간이 지난 파티션은 OrderArchiveService 가 orders_archive 로 옮겨 비운 뒤 삭제
+--
+--            ALTER TABLE orders DROP PARTITION p2026_01;
+
+SET @drop_foreign_key_indexes = (SELECT GROUP_CONCAT(DISTINCT CONCAT('DROP INDEX `', s.index_name, '`'))
+                                 FROM information_schema.statistics s
+                                 JOIN information_schema.table_constraints c
+                                   ON c.table_schema = s.table_schema AND c.table_name = s.table_name
+                                  AND c.constraint_name = s.index_name AND c.constraint_type = 'FOREIGN KEY'
+                                 WHERE s.table_schema = DATABASE() AND s.table_name = 'orders');
+SET @drop_foreign_key_indexes = IF(@drop_foreign_key_indexes IS NULL, 'DO 0',
+                                   CONCAT('ALTER TABLE orders ', @drop_foreign_key_indexes));
+
+SET @drop_foreign_keys = (SELECT GROUP_CONCAT(CONCAT('DROP FOREIGN KEY `', constraint_name, '`'))
+                          FROM information_schema.table_constraints
+                          WHERE table_schema = DATABASE() AND table_name = 'orders' AND constraint_type = 'FOREIGN KEY');
+SET @drop_foreign_keys = IF(@drop_foreign_keys IS NULL, 'DO 0', CONCAT('ALTER TABLE orders ', @drop_foreign_keys));
+PREPARE drop_foreign_keys FROM @drop_foreign_keys;
+EXECUTE drop_foreign_keys;
+DEALLOCATE PREPARE drop_foreign_keys;
+
+PREPARE drop_foreign_key_indexes FROM @drop_foreign_key_indexes;
+EXECUTE drop_foreign_key_indexes;
+DEALLOCATE PREPARE drop_foreign_key_indexes;
+
+ALTER TABLE orders MODIFY order_date DATETIME(6) NOT NULL;
+
+-- AUTO_INCREMENT 열은 키의 첫 번째 열이어야 하므로 기본 키 교체는 한 문장으로 실행
+ALTER TABLE orders DROP PRIMARY KEY, ADD PRIMARY KEY (id, order_date);
+
+ALTER TABLE orders PARTITION BY RANGE COLUMNS (order_date) (
+    PARTITION p_before_2026 VALUES LESS THAN ('2026-01-01'),
+    PARTITION p2026_01 VALUES LESS THAN ('2026-02-01'),
+    PARTITION p2026_02 VALUES LESS THAN ('2026-03-01'),
+    PARTITION p2026_03 VALUES LESS THAN ('2026-04-01'),
+    PARTITION p2026_04 VALUES LESS THAN ('2026-05-01'),
+    PARTITION p2026_05 VALUES LESS THAN ('2026-06-01'),
+    PARTITION p2026_06 VALUES LESS THAN ('2026-07-01'),
+    PARTITION p2026_07 VALUES LESS THAN ('2026-08-01'),
+    PARTITION p2026_08 VALUES LESS THAN ('2026-09-01'),
+    PARTITION p2026_09 VALUES LESS THAN ('2026-10-01'),
+    PARTITION p2026_10 VALUES LESS THAN ('2026-11-01'),
+    PARTITION p2026_11 VALUES LESS THAN ('2026-12-01'),
+    PARTITION p2026_12 VALUES LESS THAN ('2027-01-01'),
+    PARTITION p2027_01 VALUES LESS THAN ('2027-02-01'),
+    PARTITION p2027_02 VALUES LESS THAN ('2027-03-01'),
+    PARTITION p2027_03 VALUES LESS THAN ('2027-04-01'),
+    PARTITION p2027_04 VALUES LESS THAN ('2027-05-01'),
+    PARTITION p2027_05 VALUES LESS THAN ('2027-06-01'),
+    PARTITION p2027_06 VALUES LESS THAN ('2027-07-01'),
+    PARTITION p2027_07 VALUES LESS THAN ('2027-08-01'),
+    PARTITION p2027_08 VALUES LESS THAN ('2027-09-01'),
+    PARTITION p2027_09 VALUES LESS THAN ('2027-10-01'),
+    PARTITION p2027_10 VALUES LESS THAN ('2027-11-01'),
+    PARTITION p2027_11 VALUES LESS THAN ('2027-12-01'),
+    PARTITION p2027_12 VALUES LESS THAN ('2028-01-01'),
+    PARTITION p_future VALUES LESS THAN (MAXVALUE)
+);
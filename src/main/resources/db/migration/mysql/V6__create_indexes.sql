@@ -0,0 +1,40 @@
+-- ✅ 조회 조건, 조인 열 인덱스 (MySQL, 같은 인덱스를 H2 는 db/migration/h2/V6__create_indexes.sql 에서 생성)
+--
+--    ➡️ 이름 조회 : UserRepository.findByName, findWithFoodListByName (음식은 이름으로 조회하지 않으므로 인덱스 없음)
+--
+--    ➡️ 외래 키(참조) 열 : User.foodList 지연 로딩/배치 페치(food.user_id), 회원별/음식별 주문 조회(orders.user_id, orders.food_id)
+--
+--    ➡️ 주문 목록 키셋 페이지네이션과 기간 조회 : (order_date, id), (user_id, order_date)
+--
+--    ➡️ 보관된 주문 : 회원별 기간 조회 (user_id, order_date), 음식 삭제 전 참조 확인 (food_id)
+--
+--    📢 ddl-auto=update 로 만들어진 기존 DB 에는 엔티티의 @Index 로 같은 이름의 인덱스가 이미 있을 수 있음
+--       MySQL 은 CREATE INDEX IF NOT EXISTS 를 지원하지 않으므로 information_schema 로 확인하고 없을 때만 생성
+
+DELIMITER $$
+
+CREATE PROCEDURE create_index_if_missing(IN table_name_ VARCHAR(64), IN index_name_ VARCHAR(64), IN columns_ VARCHAR(255))
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM information_schema.statistics
+                   WHERE table_schema = DATABASE() AND table_name = table_name_ AND index_name = index_name_) THEN
+        SET @create_index = CONCAT('CREATE INDEX ', index_name_, ' ON ', table_name_, ' (', columns_, ')');
+        PREPARE create_index FROM @create_index;
+        EXECUTE create_index;
+        DEALLOCATE PREPARE create_index;
+    END IF;
+END$$
+
+DELIMITER ;
+
+CALL create_index_if_missing('users', 'idx_users_name', 'name');
+
+CALL create_index_if_missing('food', 'idx_food_user_id', 'user_id');
+
+CALL create_index_if_missing('orders', 'idx_orders_order_date_id', 'order_date, id');
+CALL create_index_if_missing('orders', 'idx_orders_user_id_order_date', 'user_id, order_date');
+CALL create_index_if_missing('orders', 'idx_orders_food_id', 'food_id');
+
+CALL create_index_if_missing('orders_archive', 'idx_orders_archive_user_id_order_date', 'user_id, order_date');
+CALL create_index_if_missing('orders_archive', 'idx_orders_archive_food_id', 'food_id');
+
+DROP PROCEDURE create_index_if_missing;
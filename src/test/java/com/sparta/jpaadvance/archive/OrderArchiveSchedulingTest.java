@@ -0,0 +1,151 @@
+package com.sparta.jpaadvance.archive;
+
+import com.sparta.jpaadvance.datasource.ReplicaLagMonitor;
+import com.sparta.jpaadvance.entity.Food;
+import com.sparta.jpaadvance.entity.Order;
+import com.sparta.jpaadvance.entity.User;
+import com.sparta.jpaadvance.repository.BulkInsertRepository;
+import com.sparta.jpaadvance.repository.FoodOrderStatsRepository;
+import com.sparta.jpaadvance.repository.FoodRepository;
+import com.sparta.jpaadvance.repository.OrderArchiveRepository;
+import com.sparta.jpaadvance.repository.OrderRepository;
+import com.sparta.jpaadvance.repository.UserOrderStatsRepository;
+import com.sparta.jpaadvance.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/*
+✅ 오래 걸리는 보관 작업(OrderArchiveService.archive)이 실행되는 동안에도 레플리카 복제 지연 확인(ReplicaLagMonitor.check)이 실행되는지 검증하는 테스트
+
+    ➡️ @Scheduled 작업은 스케줄러 스레드 풀(spring.task.scheduling.pool.size)을 함께 사용하므로
+       스레드가 하나면 보관, 재집계가 끝날 때까지 복제 지연 확인이 밀려서 지연된 레플리카를 계속 사용함
+
+    ➡️ 보관은 매초 실행하고 주문 한 건씩 batch-pause 만큼 쉬면서 옮기도록 설정, 보관 중에 복제 지연을 늘려서 레플리카를 빼는지 확인
+
+    ➡️ 복제 지연은 replica_lag 테이블 값으로 대신함 (프라이머리와 레플리카를 같은 H2 DB 로 사용)
+ */
+
+@SpringBootTest(properties = {
+        "jpa-advance.datasource.routing.enabled=true",
+        "spring.datasource.url=" + OrderArchiveSchedulingTest.URL,
+        "jpa-advance.datasource.replica.url=" + OrderArchiveSchedulingTest.URL,
+        "jpa-advance.datasource.replica.lag-query=select max(seconds) from replica_lag",
+        "jpa-advance.datasource.replica.max-lag=5s",
+        "jpa-advance.datasource.replica.lag-check-interval=PT0.2S",
+        "jpa-advance.order-archive.cron=* * * * * *",
+        "jpa-advance.order-archive.batch-size=1",
+        "jpa-advance.order-archive.batch-pause=1s"
+})
+@ActiveProfiles("h2")
+public class OrderArchiveSchedulingTest {
+
+    static final String URL = "jdbc:h2:mem:scheduling;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+    static final int ORDER_COUNT = 5; // 보관에 약 ORDER_COUNT x batch-pause 가 걸림
+    static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    FoodRepository foodRepository;
+    @Autowired
+    OrderRepository orderRepository;
+    @Autowired
+    OrderArchiveRepository orderArchiveRepository;
+    @Autowired
+    UserOrderStatsRepository userOrderStatsRepository;
+    @Autowired
+    FoodOrderStatsRepository foodOrderStatsRepository;
+    @Autowired
+    BulkInsertRepository bulkInsertRepository;
+    @Autowired
+    ReplicaLagMonitor replicaLagMonitor;
+    @Autowired
+    MeterRegistry meterRegistry;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void init() {
+        jdbcTemplate.execute("create table if not exists replica_lag (seconds bigint)");
+        jdbcTemplate.update("delete from replica_lag");
+        jdbcTemplate.update("insert into replica_lag values (0)");
+    }
+
+    @AfterEach
+    void clear() {
+        orderRepository.deleteAllInBatch();
+        orderArchiveRepository.deleteAllInBatch();
+        foodRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+        userOrderStatsRepository.deleteAllInBatch();
+        foodOrderStatsRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("보관 중 복제 지연 확인 : 보관이 끝나기 전에 지연된 레플리카를 사용하지 않음")
+    void test1() {
+        awaitUntil(replicaLagMonitor::isReplicaAvailable);
+
+        User user = new User();
+        user.setName("Robbie");
+        userRepository.save(user);
+        Food food = new Food();
+        food.setName("후라이드 치킨");
+        food.setPrice(15000);
+        food.setUser(user);
+        foodRepository.save(food);
+
+        double archivedBefore = archived();
+        List<Order> orderList = new ArrayList<>();
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            orderList.add(order(user, food, LocalDateTime.now().minusYears(2)));
+        }
+        bulkInsertRepository.saveAllOrders(orderList);
+
+        awaitUntil(() -> archived() > archivedBefore); // 보관 시작
+        jdbcTemplate.update("update replica_lag set seconds = 60");
+
+        awaitUntil(() -> !replicaLagMonitor.isReplicaAvailable());
+        assertTrue(archived() - archivedBefore < ORDER_COUNT, "보관이 끝난 뒤에 복제 지연을 확인함");
+    }
+
+    private double archived() {
+        return meterRegistry.counter("jpa-advance.order-archive.archived").count();
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "시간 안에 조건을 만족하지 않음");
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    private static Order order(User user, Food food, LocalDateTime orderDate) {
+        Order order = new Order();
+        order.setUser(user);
+        order.setFood(food);
+        order.setOrderDate(orderDate);
+        return order;
+    }
+}
@@ -0,0 +1,238 @@
+package com.sparta.jpaadvance.archive;
+
+import com.sparta.jpaadvance.dto.OrderSummary;
+import com.sparta.jpaadvance.entity.Food;
+import com.sparta.jpaadvance.entity.Order;
+import com.sparta.jpaadvance.entity.OrderArchive;
+import com.sparta.jpaadvance.entity.User;
+import com.sparta.jpaadvance.repository.BulkInsertRepository;
+import com.sparta.jpaadvance.repository.FoodOrderStatsRepository;
+import com.sparta.jpaadvance.repository.FoodRepository;
+import com.sparta.jpaadvance.repository.OrderArchiveJdbcRepository;
+import com.sparta.jpaadvance.repository.OrderArchiveRepository;
+import com.sparta.jpaadvance.repository.OrderRepository;
+import com.sparta.jpaadvance.repository.UserOrderStatsRepository;
+import com.sparta.jpaadvance.repository.UserRepository;
+import com.sparta.jpaadvance.service.FoodService;
+import com.sparta.jpaadvance.service.OrderArchiveService;
+import com.sparta.jpaadvance.service.OrderQueryService;
+import com.sparta.jpaadvance.service.OrderStatsService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/*
+✅ 오래된 주문 보관(orders_archive)과 기간 조건 주문 조회를 검증하는 테스트
+
+    ➡️ H2 는 파티션 테이블을 만들 수 없으므로 파티션 전환에 필요한 스키마 조건(외래 키 없음, order_date not null)과
+       보관 작업, 기간 조회 결과만 확인 (파티션 프루닝은 MySQL 에서 EXPLAIN 의 partitions 열로 확인)
+ */
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("h2")
+public class OrderArchiveTest {
+
+    static final LocalDateTime NOW = LocalDateTime.now().withNano(0);
+
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    FoodRepository foodRepository;
+    @Autowired
+    OrderRepository orderRepository;
+    @Autowired
+    OrderArchiveRepository orderArchiveRepository;
+    @Autowired
+    OrderArchiveJdbcRepository orderArchiveJdbcRepository;
+    @Autowired
+    UserOrderStatsRepository userOrderStatsRepository;
+    @Autowired
+    FoodOrderStatsRepository foodOrderStatsRepository;
+    @Autowired
+    BulkInsertRepository bulkInsertRepository;
+    @Autowired
+    OrderArchiveService orderArchiveService;
+    @Autowired
+    OrderQueryService orderQueryService;
+    @Autowired
+    OrderStatsService orderStatsService;
+    @Autowired
+    FoodService foodService;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    @Autowired
+    MockMvc mockMvc;
+
+    User robbie;
+    Food chicken;
+
+    @BeforeEach
+    void init() {
+        robbie = new User();
+        robbie.setName("Robbie");
+        userRepository.save(robbie);
+
+        chicken = new Food();
+        chicken.setName("후라이드 치킨");
+        chicken.setPrice(15000);
+        chicken.setUser(robbie);
+        foodRepository.save(chicken);
+    }
+
+    @AfterEach
+    void clear() {
+        orderRepository.deleteAllInBatch();
+        orderArchiveRepository.deleteAllInBatch();
+        foodRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+        userOrderStatsRepository.deleteAllInBatch();
+        foodOrderStatsRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("보관 : cutoff 이전 주문만 batch-size 건씩 orders_archive 로 옮김")
+    void test1() {
+        saveOrders(25, NOW.minusYears(2));
+        saveOrders(5, NOW.minusDays(1));
+        LocalDateTime cutoff = NOW.minusYears(1);
+
+        assertEquals(10, orderArchiveJdbcRepository.archiveBatch(cutoff, 10));
+        assertEquals(20, orderRepository.count());
+        assertEquals(10, orderArchiveRepository.count());
+
+        assertEquals(15, orderArchiveService.archiveBefore(cutoff));
+        assertEquals(0, orderArchiveService.archiveBefore(cutoff));
+        assertEquals(5, orderRepository.count());
+
+        List<OrderArchive> archived = orderArchiveRepository.findByUserIdOrderByOrderDateDesc(robbie.getId());
+        assertEquals(25, archived.size());
+        assertTrue(archived.stream().allMatch(order -> order.getOrderDate().isBefore(cutoff)
+                && order.getFoodId().equals(chicken.getId())
+                && order.getArchivedAt() != null));
+    }
+
+    @Test
+    @DisplayName("보관 후 재집계 : 옮긴 주문도 통계에 포함")
+    void test2() {
+        saveOrders(3, NOW.minusYears(2));
+        saveOrders(2, NOW.minusDays(1));
+        orderArchiveService.archiveBefore(NOW.minusYears(1));
+
+        orderStatsService.rebuild();
+        assertEquals(5, orderStatsService.findUserStats(robbie.getId()).getOrderCount());
+        assertEquals(5 * 15000, orderStatsService.findFoodStats(chicken.getId()).getTotalAmount(), 0.001);
+        assertEquals(NOW.minusDays(1), orderStatsService.findUserStats(robbie.getId()).getLastOrderDate());
+    }
+
+    @Test
+    @DisplayName("기간 조회 : [from, to] 날짜의 주문만 최신순, 기간이 366일을 넘으면 400")
+    void test3() throws Exception {
+        LocalDate today = NOW.toLocalDate();
+        saveOrders(1, today.minusDays(10).atStartOfDay());
+        saveOrders(1, today.minusDays(5).atTime(23, 59, 59));
+        saveOrders(1, today.minusDays(4).atStartOfDay());
+        saveOrders(1, today.atStartOfDay());
+
+        List<OrderSummary> orderList = orderQueryService.findOrdersOfUser(robbie.getId(), today.minusDays(9), today.minusDays(5));
+        assertEquals(List.of(today.minusDays(5).atTime(23, 59, 59)), orderList.stream().map(OrderSummary::orderDate).toList());
+        assertEquals(2, orderRepository.countByPeriod(today.minusDays(10).atStartOfDay(), today.minusDays(4).atStartOfDay()));
+
+        mockMvc.perform(get("/api/orders/users/{userId}", robbie.getId())
+                        .param("from", today.minusDays(4).toString())
+                        .param("to", today.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].orderDate").value(startsWith(today.toString())));
+
+        mockMvc.perform(get("/api/orders/users/{userId}", robbie.getId())
+                        .param("from", today.minusDays(366).toString())
+                        .param("to", today.toString()))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/orders/users/{userId}", robbie.getId())
+                        .param("from", today.toString())
+                        .param("to", today.minusDays(1).toString()))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("스키마 : 파티션 키 order_date 는 not null, 파티션하지 않는 H2 의 orders 에는 회원, 음식 외래 키가 있음")
+    void test4() {
+        Integer foreignKeys = jdbcTemplate.queryForObject(
+                "select count(*) from information_schema.table_constraints" +
+                        " where lower(table_name) = 'orders' and constraint_type = 'FOREIGN KEY'", Integer.class);
+        assertEquals(2, foreignKeys);
+
+        String nullable = jdbcTemplate.queryForObject(
+                "select is_nullable from information_schema.columns" +
+                        " where lower(table_name) = 'orders' and lower(column_name) = 'order_date'", String.class);
+        assertEquals("NO", nullable);
+    }
+
+    @Test
+    @DisplayName("참조 확인 : 없는 음식 주문은 거절, 주문되었거나 보관된 주문이 있는 음식은 삭제 거절")
+    void test5() {
+        List<Order> orderList = new ArrayList<>(orders(2, NOW));
+        orderList.add(order(robbie.getId(), Long.MAX_VALUE, NOW));
+        assertThrows(DataIntegrityViolationException.class, () -> bulkInsertRepository.saveAllOrders(orderList));
+        assertEquals(0, orderRepository.count());
+
+        saveOrders(1, NOW);
+        assertThrows(IllegalStateException.class, () -> foodService.deleteFoodsOfUser(robbie.getId()));
+        assertEquals(1, foodRepository.count());
+
+        orderArchiveService.archiveBefore(NOW.plusDays(1)); // 주문은 orders_archive 에만 남음
+        assertEquals(0, orderRepository.count());
+        assertThrows(IllegalStateException.class, () -> foodService.deleteFoodsOfUser(robbie.getId()));
+        assertEquals(1, foodRepository.count());
+
+        orderArchiveRepository.deleteAllInBatch();
+        assertEquals(1, foodService.deleteFoodsOfUser(robbie.getId()));
+    }
+
+    private void saveOrders(int count, LocalDateTime orderDate) {
+        bulkInsertRepository.saveAllOrders(orders(count, orderDate));
+    }
+
+    private List<Order> orders(int count, LocalDateTime orderDate) {
+        List<Order> orderList = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            orderList.add(order(robbie.getId(), chicken.getId(), orderDate));
+        }
+        return orderList;
+    }
+
+    private static Order order(Long userId, Long foodId, LocalDateTime orderDate) {
+        User user = new User();
+        user.setId(userId);
+        Food food = new Food();
+        food.setId(foodId);
+
+        Order order = new Order();
+        order.setUser(user);
+        order.setFood(food);
+        order.setOrderDate(orderDate);
+        return order;
+    }
+}
@@ -0,0 +1,221 @@
+package com.sparta.jpaadvance.bulk;
+
+import com.sparta.jpaadvance.entity.Food;
+import com.sparta.jpaadvance.entity.User;
+import com.sparta.jpaadvance.repository.FoodRepository;
+import com.sparta.jpaadvance.repository.OrderRepository;
+import com.sparta.jpaadvance.repository.UserRepository;
+import com.sparta.jpaadvance.service.BulkImportService;
+import com.sparta.jpaadvance.support.SqlCounter;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/*
+✅ BulkImportService 의 CSV 가져오기(StatelessSession)를 검증하고 처리량(rows/sec)을 출력하는 테스트
+ */
+
+@SpringBootTest
+@ActiveProfiles("h2") // 임베디드 H2 DB 사용
+public class BulkImportTest {
+
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    FoodRepository foodRepository;
+    @Autowired
+    OrderRepository orderRepository;
+    @Autowired
+    BulkImportService bulkImportService;
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void clear() {
+        orderRepository.deleteAllInBatch();
+        foodRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("회원 가져오기 : 따옴표로 감싼 값을 읽고, 캐시된 findByName 결과도 갱신")
+    void test1() throws Exception {
+        assertNull(userRepository.findByName("Robbie")); // 없는 이름 조회 결과가 쿼리 캐시에 저장됨
+
+        long count = bulkImportService.importUsers(new StringReader(
+                "name\n" +
+                "Robbie\n" +
+                "\"Kim, \"\"Chef\"\"\"\n" +
+                "\n" +
+                "\"Robbert\nLee\"\n"));
+
+        assertEquals(3, count);
+        assertEquals(3, userRepository.count());
+        assertNotNull(userRepository.findByName("Robbie"));
+        assertNotNull(userRepository.findByName("Kim, \"Chef\""));
+        assertNotNull(userRepository.findByName("Robbert\nLee"));
+        for (User user : userRepository.findAll()) {
+            assertEquals(0, user.getVersion());
+        }
+    }
+
+    @Test
+    @DisplayName("음식 가져오기 : user_id 로 외래 키만 연결하고 회원은 조회하지 않음")
+    void test2() throws Exception {
+        User user = new User();
+        user.setName("Robbie");
+        userRepository.save(user);
+        assertEquals(0, foodListSize(user.getId())); // 빈 foodList 가 컬렉션 캐시에 저장됨
+
+        SqlCounter.reset();
+        long count = bulkImportService.importFoods(new StringReader(
+                "name,price,user_id\n" +
+                "후라이드 치킨,15000," + user.getId() + "\n" +
+                "양념 치킨,16000.5," + user.getId() + "\n" +
+                "\"피자, 라지\",23000," + user.getId() + "\n" +
+                "콜라,2000,\n"));
+
+        assertEquals(4, count);
+        assertEquals(4, SqlCounter.count()); // INSERT 만 실행
+        assertEquals(3, foodListSize(user.getId()));
+
+        Map<String, Food> foods = new HashMap<>();
+        for (Food food : foodRepository.findAll()) {
+            assertEquals(0, food.getVersion());
+            foods.put(food.getName(), food);
+        }
+        assertEquals(16000.5, foods.get("양념 치킨").getPrice());
+        assertTrue(foods.containsKey("피자, 라지"));
+        assertNull(foodRepository.findWithUserById(foods.get("콜라").getId()).orElseThrow().getUser());
+    }
+
+    @Test
+    @DisplayName("배치 커밋 : 실패하면 진행 중인 배치만 롤백되고 앞서 커밋한 배치는 남음")
+    void test3() {
+        User user = new User();
+        user.setName("Robbie");
+        userRepository.save(user);
+
+        StringBuilder csv = new StringBuilder("name,price,user_id\n");
+        for (int i = 0; i < 25; i++) {
+            Long userId = i == 22 ? user.getId() + 1000 : user.getId(); // 24번째 줄은 없는 회원
+            csv.append("음식 ").append(i).append(',').append(10000 + i).append(',').append(userId).append('\n');
+        }
+
+        BulkImportService importService = new BulkImportService(entityManagerFactory, 10);
+        DataIntegrityViolationException e = assertThrows(DataIntegrityViolationException.class,
+                () -> importService.importFoods(new StringReader(csv.toString())));
+        assertTrue(e.getMessage().startsWith("24번째 줄"), e.getMessage());
+        assertEquals(20, foodRepository.count());
+    }
+
+    @Test
+    @DisplayName("잘못된 입력 : 헤더, 컬럼 수, 숫자 형식이 맞지 않으면 IllegalArgumentException")
+    void test4() {
+        assertThrows(IllegalArgumentException.class,
+                () -> bulkImportService.importFoods(new StringReader("name,user_id,price\n")));
+        IllegalArgumentException columns = assertThrows(IllegalArgumentException.class,
+                () -> bulkImportService.importFoods(new StringReader("name,price,user_id\n치킨,15000\n")));
+        assertTrue(columns.getMessage().startsWith("2번째 줄"), columns.getMessage());
+        IllegalArgumentException number = assertThrows(IllegalArgumentException.class,
+                () -> bulkImportService.importFoods(new StringReader("name,price,user_id\n치킨,15000,\n피자,만원,\n")));
+        assertTrue(number.getMessage().startsWith("3번째 줄"), number.getMessage());
+        assertEquals(0, foodRepository.count());
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서는 사용할 수 없음")
+    void test5() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        assertThrows(IllegalStateException.class, () -> transactionTemplate.executeWithoutResult(status -> {
+            try {
+                bulkImportService.importUsers(new StringReader("name\nRobbie\n"));
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }));
+        assertEquals(0, userRepository.count());
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("CSV 가져오기의 rows/sec")
+    void benchmark() throws Exception {
+        User user = new User();
+        user.setName("Robbie");
+        userRepository.save(user);
+        int rows = 200_000;
+
+        bulkImportService.importFoods(new GeneratedFoodCsv(1000, user.getId())); // 워밍업
+
+        long start = System.nanoTime();
+        long count = bulkImportService.importFoods(new GeneratedFoodCsv(rows, user.getId()));
+        double rowsPerSec = count / ((System.nanoTime() - start) / 1_000_000_000.0);
+
+        System.out.printf("BulkImport(StatelessSession) : %,.0f rows/sec%n", rowsPerSec);
+        assertEquals(rows, count);
+        assertEquals(rows + 1000L, foodRepository.count());
+    }
+
+    private int foodListSize(Long userId) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        return transactionTemplate.execute(status -> userRepository.findById(userId).orElseThrow().getFoodList().size());
+    }
+
+    // 메모리에 파일 전체를 만들지 않고 읽을 때마다 한 줄씩 만들어 내는 음식 CSV
+    private static class GeneratedFoodCsv extends Reader {
+
+        private final int rows;
+        private final Long userId;
+        private int row = -1; // -1 은 헤더
+        private String current = "";
+        private int position;
+
+        GeneratedFoodCsv(int rows, Long userId) {
+            this.rows = rows;
+            this.userId = userId;
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) {
+            if (position == current.length()) {
+                if (row == rows) {
+                    return -1;
+                }
+                current = row < 0 ? "name,price,user_id\n" : "음식 " + row + "," + (10000 + row % 1000) + "," + userId + "\n";
+                row++;
+                position = 0;
+            }
+            int n = Math.min(length, current.length() - position);
+            current.getChars(position, position + n, buffer, offset);
+            position += n;
+            return n;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.sparta.jpaadvance.bulk;
+
+import com.sparta.jpaadvance.entity.Food;
+import com.sparta.jpaadvance.entity.Order;
+import com.sparta.jpaadvance.entity.User;
+import com.sparta.jpaadvance.repository.BulkInsertRepository;
+import com.sparta.jpaadvance.repository.FoodRepository;
+import com.sparta.jpaadvance.repository.OrderRepository;
+import com.sparta.jpaadvance.repository.OrderStatsJdbcRepository;
+import com.sparta.jpaadvance.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/*
+✅ BulkInsertRepository 의 JDBC 배치 저장을 검증하고, saveAll 과의 처리량(rows/sec)을 비교하는 테스트
+ */
+
+@SpringBootTest
+@ActiveProfiles("h2") // 임베디드 H2 DB 사용
+public class BulkInsertTest {
+
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    FoodRepository foodRepository;
+    @Autowired
+    OrderRepository orderRepository;
+    @Autowired
+    BulkInsertRepository bulkInsertRepository;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+    @Autowired
+    OrderStatsJdbcRepository orderStatsJdbcRepository;
+
+    @AfterEach
+    void clear() {
+        orderRepository.deleteAllInBatch();
+        foodRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("배치 저장 후 생성된 id 가 엔티티에 설정됨")
+    void test1() {
+        User user = new User();
+        user.setName("Robbie");
+        bulkInsertRepository.saveAllUsers(List.of(user));
+        assertNotNull(user.getId());
+
+        List<Food> foodList = createFoodList(user, 1234);
+        bulkInsertRepository.saveAllFoods(foodList);
+
+        for (Food food : foodList) {
+            assertNotNull(food.getId());
+        }
+        assertEquals(1234, foodRepository.count());
+        assertEquals("음식 777", foodRepository.findById(foodList.get(777).getId()).orElseThrow().getName());
+
+        Order order = new Order();
+        order.setUser(user);
+        order.setFood(foodList.get(0));
+        bulkInsertRepository.saveAllOrders(List.of(order));
+        assertNotNull(order.getId());
+        assertNotNull(order.getOrderDate());
+    }
+
+    @Test
+    @DisplayName("batch-size 가 1 보다 작으면 생성할 수 없음")
+    void test2() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new BulkInsertRepository(jdbcTemplate, entityManagerFactory, orderStatsJdbcRepository, 0));
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("saveAll 과 JDBC 배치 저장의 rows/sec 비교")
+    void benchmark() {
+        User user = new User();
+        user.setName("Robbie");
+        userRepository.save(user);
+
+        int rows = 20000;
+
+        // 워밍업
+        foodRepository.saveAll(createFoodList(user, 1000));
+        bulkInsertRepository.saveAllFoods(createFoodList(user, 1000));
+
+        long start = System.nanoTime();
+        foodRepository.saveAll(createFoodList(user, rows));
+        double saveAllRowsPerSec = rows / ((System.nanoTime() - start) / 1_000_000_000.0);
+
+        start = System.nanoTime();
+        bulkInsertRepository.saveAllFoods(createFoodList(user, rows));
+        double bulkRowsPerSec = rows / ((System.nanoTime() - start) / 1_000_000_000.0);
+
+        System.out.printf("saveAll          : %,.0f rows/sec%n", saveAllRowsPerSec);
+        System.out.printf("BulkInsert(JDBC) : %,.0f rows/sec%n", bulkRowsPerSec);
+        assertEquals(rows * 2L + 2000, foodRepository.count());
+    }
+
+    private List<Food> createFoodList(User user, int size) {
+        List<Food> foodList = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            Food food = new Food();
+            food.setName("음식 " + i);
+            food.setPrice(10000 + i);
+            food.setUser(user);
+            foodList.add(food);
+        }
+        return foodList;
+    }
+}
@@ -0,0 +1,99 @@
+package com.sparta.jpaadvance.bulk;
+
+import com.sparta.jpaadvance.entity.Food;
+import com.sparta.jpaadvance.entity.User;
+import com.sparta.jpaadvance.repository.FoodRepository;
+import com.sparta.jpaadvance.repository.OrderRepository;
+import com.sparta.jpaadvance.repository.UserRepository;
+import com.sparta.jpaadvance.service.FoodService;
+import com.sparta.jpaadvance.support.SqlCounter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/*
+✅ FoodRepository 벌크 연산(가격 변경, 회원별 삭제)이 한 번의 SQL 로 실행되고 2차 캐시가 무효화되는지 검증하는 테스트
+ */
+
+@SpringBootTest
+@ActiveProfiles("h2")
+public class BulkUpdateTest {
+
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    FoodRepository foodRepository;
+    @Autowired
+    OrderRepository orderRepository;
+    @Autowired
+    FoodService foodService;
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    User user;
+    List<Food> foodList = new ArrayList<>();
+
+    @BeforeEach
+    void init() {
+        user = new User();
+        user.setName("Robbie");
+        for (int i = 1; i <= 5; i++) {
+            Food food = new Food();
+            food.setName("음식 " + i);
+            food.setPrice(10000 * i);
+            user.addFoodList(food);
+            foodList.add(food);
+        }
+        userRepository.save(user);
+    }
+
+    @AfterEach
+    void clear() {
+        orderRepository.deleteAllInBatch();
+        foodRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("가격 10% 인상 : UPDATE 1번, 캐시된 음식도 변경된 가격으로 조회")
+    void test1() {
+        Long cheapId = foodList.get(0).getId();
+        Long expensiveId = foodList.get(4).getId();
+        foodRepository.findById(cheapId); // 2차 캐시에 저장
+
+        SqlCounter.reset();
+        int updated = foodService.changePriceByPercent(10, 10000, 30000);
+
+        assertEquals(1, SqlCounter.count());
+        assertEquals(3, updated);
+        assertEquals(11000, foodRepository.findById(cheapId).orElseThrow().getPrice(), 0.001);
+        assertEquals(50000, foodRepository.findById(expensiveId).orElseThrow().getPrice(), 0.001);
+    }
+
+    @Test
+    @DisplayName("회원의 음식 삭제 : 음식 잠금 1번 + 주문, 보관 주문 참조 확인 2번 + DELETE 1번, foodList 컬렉션 캐시 무효화")
+    void test2() {
+        // foodList 컬렉션 캐시 저장
+        transactionTemplate.executeWithoutResult(status ->
+                userRepository.findById(user.getId()).orElseThrow().getFoodList().size());
+
+        SqlCounter.reset();
+        int deleted = foodService.deleteFoodsOfUser(user.getId());
+
+        assertEquals(4, SqlCounter.count()); // MySQL 의 orders 에는 외래 키가 없으므로 음식을 잠근 뒤 주문 참조 여부를 먼저 조회
+        assertEquals(5, deleted);
+        Integer size = transactionTemplate.execute(status ->
+                userRepository.findById(user.getId()).orElseThrow().getFoodList().size());
+        assertEquals(0, size);
+    }
+}
@@ -0,0 +1,98 @@
+package com.sparta.jpaadvance.cache;
+
+import com.sparta.jpaadvance.entity.User;
+import com.sparta.jpaadvance.repository.BulkInsertRepository;
+import com.sparta.jpaadvance.repository.FoodRepository;
+import com.sparta.jpaadvance.repository.OrderRepository;
+import com.sparta.jpaadvance.repository.UserRepository;
+import com.sparta.jpaadvance.support.SqlCounter;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/*
+✅ UserRepository.findByName 쿼리 캐시와 무효화를 검증하는 테스트
+ */
+
+@SpringBootTest
+@ActiveProfiles("h2")
+public class QueryCacheTest {
+
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    FoodRepository foodRepository;
+    @Autowired
+    OrderRepository orderRepository;
+    @Autowired
+    BulkInsertRepository bulkInsertRepository;
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void init() {
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+
+        User user = new User();
+        user.setName("Robbie");
+        userRepository.save(user);
+    }
+
+    @AfterEach
+    void clear() {
+        orderRepository.deleteAllInBatch();
+        foodRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("findByName 반복 조회 : 두 번째 조회는 DB 를 조회하지 않음")
+    void test1() {
+        userRepository.findByName("Robbie");
+
+        SqlCounter.reset();
+        User user = userRepository.findByName("Robbie");
+
+        assertEquals("Robbie", user.getName());
+        assertEquals(0, SqlCounter.count());
+    }
+
+    @Test
+    @DisplayName("User 저장 : 캐시된 findByName 결과 무효화")
+    void test2() {
+        assertNull(userRepository.findByName("Robbert")); // 결과 없음도 캐시됨
+
+        User user = new User();
+        user.setName("Robbert");
+        userRepository.save(user);
+
+        SqlCounter.reset();
+        assertNotNull(userRepository.findByName("Robbert"));
+        assertTrue(SqlCounter.count() > 0);
+    }
+
+    @Test
+    @DisplayName("JDBC 배치로 User 저장 : 캐시된 findByName 결과 무효화")
+    void test3() {
+        assertNull(userRepository.findByName("Robbert"));
+
+        User user = new User();
+        user.setName("Robbert");
+        bulkInsertRepository.saveAllUsers(List.of(user));
+
+        assertNotNull(userRepository.findByName("Robbert"));
+    }
+}
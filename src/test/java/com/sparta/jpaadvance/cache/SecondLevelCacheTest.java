@@ -0,0 +1,124 @@
+package com.sparta.jpaadvance.cache;
+
+import com.sparta.jpaadvance.entity.Food;
+import com.sparta.jpaadvance.entity.User;
+import com.sparta.jpaadvance.repository.BulkInsertRepository;
+import com.sparta.jpaadvance.repository.FoodRepository;
+import com.sparta.jpaadvance.repository.OrderRepository;
+import com.sparta.jpaadvance.repository.UserRepository;
+import com.sparta.jpaadvance.support.SqlCounter;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/*
+✅ Food, User, User.foodList 2차 캐시 동작을 검증하는 테스트
+
+    ➡️ 같은 엔티티를 다른 트랜잭션(다른 영속성 컨텍스트)에서 다시 조회하면 DB 대신 2차 캐시에서 조회
+ */
+
+@SpringBootTest
+@ActiveProfiles("h2")
+public class SecondLevelCacheTest {
+
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    FoodRepository foodRepository;
+    @Autowired
+    OrderRepository orderRepository;
+    @Autowired
+    BulkInsertRepository bulkInsertRepository;
+    @Autowired
+    TransactionTemplate transactionTemplate;
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    Statistics statistics;
+    User user;
+    Food food;
+
+    @BeforeEach
+    void init() {
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictAllRegions();
+        statistics = sessionFactory.getStatistics();
+        statistics.clear();
+
+        user = new User();
+        user.setName("Robbie");
+        food = new Food();
+        food.setName("후라이드 치킨");
+        food.setPrice(15000);
+        user.addFoodList(food);
+        userRepository.save(user);
+    }
+
+    @AfterEach
+    void clear() {
+        orderRepository.deleteAllInBatch();
+        foodRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("Food 반복 조회 : 두 번째 findById 는 DB 를 조회하지 않음")
+    void test1() {
+        foodRepository.findById(food.getId()).orElseThrow(); // DB 조회 후 캐시에 저장
+        long missCount = statistics.getSecondLevelCacheMissCount();
+
+        SqlCounter.reset();
+        Food cached = foodRepository.findById(food.getId()).orElseThrow();
+
+        assertEquals(0, SqlCounter.count());
+        assertEquals("후라이드 치킨", cached.getName());
+        assertTrue(statistics.getSecondLevelCacheHitCount() >= 1);
+        assertEquals(missCount, statistics.getSecondLevelCacheMissCount());
+        System.out.println("2차 캐시 hit = " + statistics.getSecondLevelCacheHitCount()
+                + ", miss = " + statistics.getSecondLevelCacheMissCount());
+    }
+
+    @Test
+    @DisplayName("User.foodList 컬렉션 캐시 : 두 번째 순회는 DB 를 조회하지 않음")
+    void test2() {
+        transactionTemplate.executeWithoutResult(status ->
+                userRepository.findById(user.getId()).orElseThrow().getFoodList().size());
+
+        SqlCounter.reset();
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Food> foodList = userRepository.findById(user.getId()).orElseThrow().getFoodList();
+            assertEquals("후라이드 치킨", foodList.get(0).getName());
+        });
+        assertEquals(0, SqlCounter.count());
+    }
+
+    @Test
+    @DisplayName("JDBC 배치로 음식 추가 : User.foodList 캐시 제거")
+    void test3() {
+        transactionTemplate.executeWithoutResult(status ->
+                userRepository.findById(user.getId()).orElseThrow().getFoodList().size());
+
+        Food food2 = new Food();
+        food2.setName("양념 치킨");
+        food2.setPrice(20000);
+        food2.setUser(user);
+        bulkInsertRepository.saveAllFoods(List.of(food2));
+
+        Integer size = transactionTemplate.execute(status ->
+                userRepository.findById(user.getId()).orElseThrow().getFoodList().size());
+        assertEquals(2, size);
+    }
+}
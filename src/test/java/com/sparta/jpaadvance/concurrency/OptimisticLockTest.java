@@ -0,0 +1,197 @@
+package com.sparta.jpaadvance.concurrency;
+
+import com.sparta.jpaadvance.entity.Food;
+import com.sparta.jpaadvance.entity.User;
+import com.sparta.jpaadvance.repository.FoodOrderStatsRepository;
+import com.sparta.jpaadvance.repository.FoodRepository;
+import com.sparta.jpaadvance.repository.OrderRepository;
+import com.sparta.jpaadvance.repository.UserOrderStatsRepository;
+import com.sparta.jpaadvance.repository.UserRepository;
+import com.sparta.jpaadvance.service.FoodService;
+import com.sparta.jpaadvance.service.OptimisticLockRetry;
+import com.sparta.jpaadvance.service.OrderService;
+import com.sparta.jpaadvance.service.OrderStatsService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/*
+✅ 낙관적 락(User.version, Food.version)과 충돌 재시도(OptimisticLockRetry)를 검증하는 테스트
+
+    ➡️ 재시도 없이 같은 음식을 동시에 수정하면 나중에 커밋하는 트랜잭션이 충돌로 실패 (변경을 덮어쓰지 않음)
+
+    ➡️ 여러 스레드가 주문, 가격 변경, 음식 등록을 동시에 실행해도 사라지는 변경이 없고 주문은 충돌하지 않음
+       (주문 수천 건으로 처리량을 출력하는 부하 테스트는 ./gradlew benchmark)
+
+    📢 모든 작업이 회원 한 명, 음식 하나에 몰리도록 만든 테스트이므로 재시도 횟수를 늘려서 실행
+ */
+
+@SpringBootTest(properties = "jpa-advance.optimistic-lock.max-attempts=20")
+@ActiveProfiles("h2")
+public class OptimisticLockTest {
+
+    static final int THREADS = 8;
+
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    FoodRepository foodRepository;
+    @Autowired
+    OrderRepository orderRepository;
+    @Autowired
+    UserOrderStatsRepository userOrderStatsRepository;
+    @Autowired
+    FoodOrderStatsRepository foodOrderStatsRepository;
+    @Autowired
+    OrderService orderService;
+    @Autowired
+    OrderStatsService orderStatsService;
+    @Autowired
+    FoodService foodService;
+    @Autowired
+    OptimisticLockRetry optimisticLockRetry;
+    @Autowired
+    PlatformTransactionManager transactionManager;
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    User user;
+    Food food;
+
+    @BeforeEach
+    void init() {
+        user = new User();
+        user.setName("Robbie");
+        userRepository.save(user);
+
+        food = new Food();
+        food.setName("후라이드 치킨");
+        food.setPrice(15000);
+        food.setUser(user);
+        foodRepository.save(food);
+    }
+
+    @AfterEach
+    void clear() {
+        orderRepository.deleteAllInBatch();
+        foodRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+        userOrderStatsRepository.deleteAllInBatch();
+        foodOrderStatsRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("충돌 감지 : 먼저 커밋된 수정이 있으면 나중 커밋은 ObjectOptimisticLockingFailureException")
+    void test1() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        TransactionTemplate requiresNew = new TransactionTemplate(transactionManager);
+        requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        assertThrows(ObjectOptimisticLockingFailureException.class, () -> transactionTemplate.executeWithoutResult(status -> {
+            Food stale = foodRepository.findById(food.getId()).orElseThrow();
+
+            // 다른 트랜잭션이 먼저 가격을 바꾸고 커밋
+            requiresNew.executeWithoutResult(other ->
+                    foodRepository.findById(food.getId()).orElseThrow().setPrice(16000));
+
+            stale.setPrice(17000);
+        }));
+
+        Food saved = foodRepository.findById(food.getId()).orElseThrow();
+        assertEquals(16000, saved.getPrice());
+        assertEquals(1, saved.getVersion());
+    }
+
+    @Test
+    @DisplayName("벌크 update : 가격과 함께 version 도 증가")
+    void test2() {
+        foodService.changePriceByPercent(10, 15000, 15000);
+        assertEquals(1, foodRepository.findById(food.getId()).orElseThrow().getVersion());
+    }
+
+    @Test
+    @DisplayName("재시도 : 이미 시작된 트랜잭션 안에서는 사용할 수 없음")
+    void test3() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        assertThrows(IllegalStateException.class, () -> transactionTemplate.executeWithoutResult(status ->
+                optimisticLockRetry.execute(inner -> null)));
+    }
+
+    @Test
+    @DisplayName("동시 실행 : 주문과 가격 변경, 음식 등록을 병렬로 실행해도 사라지는 변경이 없음")
+    void test4() throws Exception {
+        runConcurrently(500, 50, 20);
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("동시 실행 부하 : 주문 수천 건과 가격 변경, 음식 등록의 처리량")
+    void benchmark() throws Exception {
+        runConcurrently(5000, 500, 100);
+    }
+
+    private void runConcurrently(int orderCount, int priceChanges, int foodAdds) throws Exception {
+        double retriesBefore = meterRegistry.counter("jpa-advance.optimistic-lock.retries").count();
+
+        List<Callable<Object>> tasks = new ArrayList<>();
+        for (int i = 0; i < orderCount; i++) {
+            tasks.add(() -> orderService.placeOrder(user.getId(), food.getId()));
+        }
+        for (int i = 0; i < priceChanges; i++) {
+            tasks.add(() -> foodService.changePrice(food.getId(), 1));
+        }
+        for (int i = 0; i < foodAdds; i++) {
+            int n = i;
+            tasks.add(() -> foodService.addFood(user.getId(), "음식 " + n, 10000));
+        }
+        Collections.shuffle(tasks);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        long start = System.nanoTime();
+        List<Future<Object>> futures = executor.invokeAll(tasks);
+        double elapsedSec = (System.nanoTime() - start) / 1_000_000_000.0;
+        executor.shutdown();
+        for (Future<Object> future : futures) {
+            future.get(); // 재시도 후에도 실패한 작업이 있으면 ExecutionException
+        }
+
+        System.out.printf("%,d tasks (%,d orders) in %.2fs : %,.0f tasks/sec, %,.0f optimistic lock retries%n",
+                tasks.size(), orderCount, elapsedSec, tasks.size() / elapsedSec,
+                meterRegistry.counter("jpa-advance.optimistic-lock.retries").count() - retriesBefore);
+
+        // 주문 : 모두 저장되고 통계도 빠짐없이 증가
+        assertEquals(orderCount, orderRepository.count());
+        assertEquals(orderCount, orderStatsService.findUserStats(user.getId()).getOrderCount());
+        assertEquals(orderCount, orderStatsService.findFoodStats(food.getId()).getOrderCount());
+
+        // 가격 변경 : 모든 변경이 누적되고 변경마다 version 이 하나씩 증가
+        Food saved = foodRepository.findById(food.getId()).orElseThrow();
+        assertEquals(15000 + priceChanges, saved.getPrice());
+        assertEquals(priceChanges, saved.getVersion());
+
+        // 음식 등록 : 모두 저장되고 등록마다 회원 version 이 하나씩 증가
+        assertEquals(1 + foodAdds, foodRepository.findSummaryByUserId(user.getId()).size());
+        assertEquals(foodAdds, userRepository.findById(user.getId()).orElseThrow().getVersion());
+    }
+}
@@ -0,0 +1,149 @@
+package com.sparta.jpaadvance.datasource;
+
+import com.sparta.jpaadvance.entity.User;
+import com.sparta.jpaadvance.repository.FoodRepository;
+import com.sparta.jpaadvance.repository.OrderRepository;
+import com.sparta.jpaadvance.repository.UserRepository;
+import com.sparta.jpaadvance.trace.SqlTraceRecorder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/*
+✅ 읽기/쓰기 분리 DataSource 를 두 개의 임베디드 H2 DB(primary, replica)로 검증하는 테스트
+
+    ➡️ 복제는 replication(JdbcTemplate)으로 레플리카 DB 에 직접 쓰는 것으로 대신함
+
+    ➡️ 복제 지연은 레플리카 DB 의 replica_lag 테이블 값으로 대신함
+ */
+
+@SpringBootTest(properties = {
+        "jpa-advance.datasource.routing.enabled=true",
+        "spring.datasource.url=" + ReadWriteRoutingTest.PRIMARY_URL,
+        "jpa-advance.datasource.replica.url=" + ReadWriteRoutingTest.REPLICA_URL,
+        "jpa-advance.datasource.replica.lag-query=select max(seconds) from replica_lag",
+        "jpa-advance.datasource.replica.max-lag=5s",
+        "jpa-advance.datasource.replica.lag-check-interval=PT1H" // 테스트에서 check() 를 직접 호출
+})
+@ActiveProfiles("h2")
+public class ReadWriteRoutingTest {
+
+    static final String PRIMARY_URL = "jdbc:h2:mem:primary;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+    static final String REPLICA_URL = "jdbc:h2:mem:replica;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    FoodRepository foodRepository;
+    @Autowired
+    OrderRepository orderRepository;
+    @Autowired
+    ReplicaLagMonitor replicaLagMonitor;
+    @Autowired
+    SqlTraceRecorder sqlTraceRecorder;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    @Autowired
+    PlatformTransactionManager transactionManager;
+    @Autowired
+    @Qualifier("primaryDataSource")
+    DataSource primaryDataSource;
+
+    JdbcTemplate replication = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+    TransactionTemplate readOnly;
+    TransactionTemplate readWrite;
+
+    @BeforeEach
+    void init() {
+        // 프라이머리의 스키마를 레플리카에 복사
+        Integer tables = replication.queryForObject(
+                "select count(*) from information_schema.tables where lower(table_schema) = 'public' and lower(table_name) = 'users'", Integer.class);
+        if (tables == 0) {
+            for (String sql : new JdbcTemplate(primaryDataSource).queryForList("script nodata", String.class)) {
+                if (!sql.startsWith("CREATE USER")) {
+                    replication.execute(sql);
+                }
+            }
+            replication.execute("create table replica_lag (seconds bigint)");
+            replication.execute("insert into replica_lag values (0)");
+        }
+        setLag(0);
+
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readWrite = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void clear() {
+        orderRepository.deleteAllInBatch();
+        foodRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+        replication.execute("delete from users");
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 레플리카, 나머지는 프라이머리")
+    void test1() {
+        assertEquals("replica", readOnly.execute(status -> currentDatabase()));
+        assertEquals("primary", readWrite.execute(status -> currentDatabase()));
+        assertEquals("primary", currentDatabase()); // 트랜잭션 밖
+    }
+
+    @Test
+    @DisplayName("레포지토리 조회 메서드는 레플리카, 저장은 프라이머리")
+    void test2() {
+        User user = new User();
+        user.setName("Robbie");
+        userRepository.save(user);
+        assertEquals("primaryDataSource", sqlTraceRecorder.recent(1).get(0).dataSourceName());
+
+        // 아직 복제되지 않음
+        assertEquals(0, userRepository.count());
+        assertEquals("replicaDataSource", sqlTraceRecorder.recent(1).get(0).dataSourceName());
+
+        replication.update("insert into users (id, name) values (?, ?)", user.getId(), user.getName());
+        assertEquals(1, userRepository.count());
+        foodRepository.findSummaryByUserId(user.getId());
+        assertEquals("replicaDataSource", sqlTraceRecorder.recent(1).get(0).dataSourceName());
+    }
+
+    @Test
+    @DisplayName("복제 지연이 max-lag 를 넘거나 확인에 실패하면 프라이머리로 읽음")
+    void test3() {
+        setLag(60);
+        assertFalse(replicaLagMonitor.isReplicaAvailable());
+        assertEquals("primary", readOnly.execute(status -> currentDatabase()));
+
+        setLag(1);
+        assertEquals("replica", readOnly.execute(status -> currentDatabase()));
+
+        replication.execute("alter table replica_lag rename to replica_lag_backup");
+        replicaLagMonitor.check();
+        replication.execute("alter table replica_lag_backup rename to replica_lag");
+        assertEquals("primary", readOnly.execute(status -> currentDatabase()));
+    }
+
+    private String currentDatabase() {
+        return jdbcTemplate.queryForObject("select database()", String.class).toLowerCase();
+    }
+
+    private void setLag(long seconds) {
+        replication.update("update replica_lag set seconds = ?", seconds);
+        replicaLagMonitor.check();
+    }
+}
@@ -0,0 +1,135 @@
+package com.sparta.jpaadvance.enhance;
+
+import com.sparta.jpaadvance.entity.Food;
+import com.sparta.jpaadvance.entity.User;
+import com.sparta.jpaadvance.repository.FoodRepository;
+import com.sparta.jpaadvance.repository.OrderRepository;
+import com.sparta.jpaadvance.repository.UserRepository;
+import com.sparta.jpaadvance.support.SqlCounter;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Hibernate;
+import org.hibernate.engine.spi.ManagedEntity;
+import org.hibernate.engine.spi.SelfDirtinessTracker;
+import org.hibernate.proxy.HibernateProxy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/*
+✅ Hibernate 바이트코드 향상(build.gradle 의 org.hibernate.orm 플러그인)이 적용된 엔티티를 검증하는 테스트
+
+    ➡️ 인라인 변경 감지, 프록시 없는 지연 로딩, 양방향 연관 관계 관리
+
+    ➡️ 향상하지 않은 빌드(-PnoEnhance)에서는 건너뜀
+ */
+
+@SpringBootTest
+@ActiveProfiles("h2")
+public class BytecodeEnhancementTest {
+
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    FoodRepository foodRepository;
+    @Autowired
+    OrderRepository orderRepository;
+    @Autowired
+    EntityManager entityManager;
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    TransactionTemplate transactionTemplate;
+    Long foodId;
+
+    @BeforeEach
+    void init() {
+        assumeTrue(ManagedEntity.class.isAssignableFrom(Food.class), "엔티티 클래스가 향상되지 않은 빌드");
+        transactionTemplate = new TransactionTemplate(transactionManager);
+
+        User user = new User();
+        user.setName("Robbie");
+        userRepository.save(user);
+
+        Food food = new Food();
+        food.setName("후라이드 치킨");
+        food.setPrice(15000);
+        food.setUser(user);
+        foodRepository.save(food);
+        foodId = food.getId();
+    }
+
+    @AfterEach
+    void clear() {
+        orderRepository.deleteAllInBatch();
+        foodRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("인라인 변경 감지 : setter 로 바꾼 필드만 기록하고 update 한 번")
+    void test1() {
+        transactionTemplate.executeWithoutResult(status -> {
+            Food food = entityManager.find(Food.class, foodId);
+            SelfDirtinessTracker tracker = (SelfDirtinessTracker) food;
+            assertFalse(tracker.$$_hibernate_hasDirtyAttributes());
+
+            food.setPrice(16500);
+            assertArrayEquals(new String[]{"price"}, tracker.$$_hibernate_getDirtyAttributes());
+
+            SqlCounter.reset();
+            entityManager.flush();
+            assertEquals(1, SqlCounter.count());
+        });
+        assertEquals(16500, foodRepository.findById(foodId).orElseThrow().getPrice());
+    }
+
+    @Test
+    @DisplayName("지연 로딩 : Food.user 는 프록시 하위 클래스가 아닌 초기화되지 않은 User")
+    void test2() {
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.getEntityManagerFactory().getCache().evictAll();
+            Food food = entityManager.find(Food.class, foodId);
+
+            SqlCounter.reset();
+            User user = food.getUser();
+            assertSame(User.class, user.getClass());
+            assertFalse(user instanceof HibernateProxy);
+            assertFalse(Hibernate.isInitialized(user));
+            user.getId();
+            assertEquals(0, SqlCounter.count());
+
+            assertEquals("Robbie", user.getName());
+            assertTrue(Hibernate.isInitialized(user));
+            assertEquals(1, SqlCounter.count());
+        });
+    }
+
+    @Test
+    @DisplayName("연관 관계 관리 : Food.user 만 설정해도 User.foodList 에 추가, addFoodList 는 중복 추가하지 않음")
+    void test3() {
+        User user = new User();
+        user.setName("Robbert");
+
+        Food chicken = new Food();
+        chicken.setUser(user);
+        assertEquals(1, user.getFoodList().size());
+        assertSame(chicken, user.getFoodList().get(0));
+
+        Food pizza = new Food();
+        user.addFoodList(pizza);
+        assertEquals(2, user.getFoodList().size());
+    }
+}
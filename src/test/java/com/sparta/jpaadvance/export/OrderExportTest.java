@@ -0,0 +1,125 @@
+package com.sparta.jpaadvance.export;
+
+import com.sparta.jpaadvance.entity.Food;
+import com.sparta.jpaadvance.entity.Order;
+import com.sparta.jpaadvance.entity.User;
+import com.sparta.jpaadvance.repository.BulkInsertRepository;
+import com.sparta.jpaadvance.repository.FoodRepository;
+import com.sparta.jpaadvance.repository.OrderRepository;
+import com.sparta.jpaadvance.repository.UserRepository;
+import com.sparta.jpaadvance.service.OrderExportService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/*
+✅ 주문 스트리밍 내보내기(CSV / JSON)를 검증하는 테스트
+ */
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("h2")
+public class OrderExportTest {
+
+    static final int ORDER_COUNT = 2500; // 영속성 컨텍스트를 여러 번 비우도록 CLEAR_INTERVAL 보다 크게
+
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    FoodRepository foodRepository;
+    @Autowired
+    OrderRepository orderRepository;
+    @Autowired
+    BulkInsertRepository bulkInsertRepository;
+    @Autowired
+    OrderExportService orderExportService;
+    @Autowired
+    MockMvc mockMvc;
+
+    @BeforeEach
+    void init() {
+        User user = new User();
+        user.setName("Robbie");
+        userRepository.save(user);
+
+        Food food = new Food();
+        food.setName("양념 치킨, 반반");
+        food.setPrice(20000);
+        food.setUser(user);
+        foodRepository.save(food);
+
+        List<Order> orderList = new ArrayList<>();
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            Order order = new Order();
+            order.setUser(user);
+            order.setFood(food);
+            orderList.add(order);
+        }
+        bulkInsertRepository.saveAllOrders(orderList);
+    }
+
+    @AfterEach
+    void clear() {
+        orderRepository.deleteAllInBatch();
+        foodRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("CSV 내보내기 : 헤더 + 주문 수 만큼의 행")
+    void test1() throws Exception {
+        StringWriter writer = new StringWriter();
+        long count = orderExportService.exportCsv(writer);
+
+        String[] lines = writer.toString().split("\n");
+        assertEquals(ORDER_COUNT, count);
+        assertEquals(ORDER_COUNT + 1, lines.length);
+        assertTrue(lines[1].contains("\"양념 치킨, 반반\"")); // 쉼표가 있는 값은 따옴표로 감쌈
+    }
+
+    @Test
+    @DisplayName("JSON 내보내기 API")
+    void test2() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/orders/export").param("format", "json"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(ORDER_COUNT))
+                .andExpect(jsonPath("$[0].userName").value("Robbie"));
+    }
+
+    @Test
+    @DisplayName("CSV 내보내기 : 캐리지 리턴(\\r)이 있는 값도 따옴표로 감쌈")
+    void test3() throws Exception {
+        User user = userRepository.findAll().get(0);
+        user.setName("Robbie\r");
+        userRepository.save(user);
+
+        StringWriter writer = new StringWriter();
+        orderExportService.exportCsv(writer);
+
+        String[] lines = writer.toString().split("\n");
+        assertTrue(lines[1].contains(",\"Robbie\r\","), lines[1]);
+    }
+}
@@ -0,0 +1,85 @@
+package com.sparta.jpaadvance.fetch;
+
+import com.sparta.jpaadvance.entity.Food;
+import com.sparta.jpaadvance.entity.User;
+import com.sparta.jpaadvance.repository.FoodRepository;
+import com.sparta.jpaadvance.repository.OrderRepository;
+import com.sparta.jpaadvance.repository.UserRepository;
+import com.sparta.jpaadvance.support.SqlCounter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/*
+✅ hibernate.default_batch_fetch_size 에 의해 User.foodList 가 묶여서 초기화되는지 검증하는 테스트
+
+    ➡️ N 명의 User 를 조회하고 foodList 를 모두 순회하면 컬렉션 초기화 쿼리는 N 번이 아니라 ceil(N / batch) 번 실행
+ */
+
+@SpringBootTest(properties = "jpa-advance.batch-fetch-size=" + BatchFetchTest.BATCH_SIZE)
+@ActiveProfiles("h2")
+public class BatchFetchTest {
+
+    static final int BATCH_SIZE = 10;
+    static final int USER_COUNT = 25;
+
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    FoodRepository foodRepository;
+    @Autowired
+    OrderRepository orderRepository;
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void init() {
+        List<User> userList = new ArrayList<>();
+        for (int i = 0; i < USER_COUNT; i++) {
+            User user = new User();
+            user.setName("User" + i);
+            for (int j = 0; j < 2; j++) {
+                Food food = new Food();
+                food.setName("음식 " + j);
+                food.setPrice(10000);
+                user.addFoodList(food);
+            }
+            userList.add(user);
+        }
+        userRepository.saveAll(userList);
+    }
+
+    @AfterEach
+    void clear() {
+        orderRepository.deleteAllInBatch();
+        foodRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("User N 명의 foodList 순회 : 컬렉션 초기화 쿼리 ceil(N / batch) 번")
+    void test1() {
+        SqlCounter.reset();
+        transactionTemplate.executeWithoutResult(status -> {
+            List<User> userList = userRepository.findAll();
+            assertEquals(USER_COUNT, userList.size());
+            for (User user : userList) {
+                assertEquals(2, user.getFoodList().size());
+            }
+        });
+
+        int collectionQueries = SqlCounter.count() - 1; // findAll 쿼리 제외
+        System.out.println("foodList 초기화 쿼리 수 = " + collectionQueries);
+        assertEquals((USER_COUNT + BATCH_SIZE - 1) / BATCH_SIZE, collectionQueries);
+    }
+}
@@ -0,0 +1,134 @@
+package com.sparta.jpaadvance.fetch;
+
+import com.sparta.jpaadvance.entity.Food;
+import com.sparta.jpaadvance.entity.User;
+import com.sparta.jpaadvance.repository.FoodRepository;
+import com.sparta.jpaadvance.repository.OrderRepository;
+import com.sparta.jpaadvance.repository.UserRepository;
+import com.sparta.jpaadvance.support.SqlCounter;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/*
+✅ UserRepository 의 @EntityGraph 조회 메서드가 foodList 를 순회해도 추가 SELECT 를 만들지 않는지 검증하는 테스트
+
+    ➡️ SqlCounter 로 각 호출이 실행한 SQL 수를 세고, N+1 이 다시 생기면 실패
+ */
+
+@SpringBootTest
+@ActiveProfiles("h2")
+public class FetchJoinTest {
+
+    static final int USER_COUNT = 10;
+
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    FoodRepository foodRepository;
+    @Autowired
+    OrderRepository orderRepository;
+    @Autowired
+    TransactionTemplate transactionTemplate;
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    List<Long> userIds = new ArrayList<>();
+
+    @BeforeEach
+    void init() {
+        List<User> userList = new ArrayList<>();
+        for (int i = 0; i < USER_COUNT; i++) {
+            User user = new User();
+            user.setName("User" + i);
+            for (int j = 0; j < 3; j++) {
+                Food food = new Food();
+                food.setName("음식 " + j);
+                food.setPrice(10000);
+                user.addFoodList(food);
+            }
+            userList.add(user);
+        }
+        userRepository.saveAll(userList); // 영속성 전이로 foodList 도 함께 저장
+        userList.forEach(user -> userIds.add(user.getId()));
+    }
+
+    @AfterEach
+    void clear() {
+        orderRepository.deleteAllInBatch();
+        foodRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("findAll 후 foodList 순회 : 사용자 조회 1번 + foodList 배치 초기화 1번 (N+1 이면 1 + N)")
+    void test1() {
+        entityManagerFactory.getCache().evictAll(); // 2차 캐시에서 foodList 를 꺼내지 않고 DB 에서 초기화하도록 비움
+        int count = countStatements(() -> {
+            for (User user : userRepository.findAll()) {
+                assertEquals(3, user.getFoodList().size());
+            }
+        });
+        assertEquals(2, count); // USER_COUNT <= hibernate.default_batch_fetch_size
+    }
+
+    @Test
+    @DisplayName("이름으로 조회 : foodList 까지 쿼리 1번")
+    void test2() {
+        int count = countStatements(() -> {
+            User user = userRepository.findWithFoodListByName("User3");
+            assertEquals(3, user.getFoodList().size());
+        });
+        assertEquals(1, count);
+    }
+
+    @Test
+    @DisplayName("id 목록으로 조회 : 사용자 수와 무관하게 쿼리 1번")
+    void test3() {
+        int count = countStatements(() -> {
+            List<User> userList = userRepository.findWithFoodListByIdIn(userIds);
+            assertEquals(USER_COUNT, userList.size());
+            for (User user : userList) {
+                assertEquals(3, user.getFoodList().size());
+            }
+        });
+        assertEquals(1, count);
+    }
+
+    @Test
+    @DisplayName("페이징 조회 : id 페이지 + count + fetch 조회로 쿼리 수 고정")
+    void test4() {
+        int count = countStatements(() -> {
+            Page<User> page = userRepository.findWithFoodListAll(PageRequest.of(1, 4, Sort.by("id")));
+            assertEquals(USER_COUNT, page.getTotalElements());
+            assertEquals(4, page.getContent().size());
+            assertEquals(userIds.get(4), page.getContent().get(0).getId());
+            for (User user : page) {
+                assertEquals(3, user.getFoodList().size());
+            }
+        });
+        assertTrue(count <= 3, "페이징 조회 SQL 수 = " + count);
+    }
+
+    // 새 트랜잭션(새 영속성 컨텍스트) 에서 실행하며 실행된 SQL 수를 반환
+    private int countStatements(Runnable runnable) {
+        SqlCounter.reset();
+        transactionTemplate.executeWithoutResult(status -> runnable.run());
+        return SqlCounter.count();
+    }
+}
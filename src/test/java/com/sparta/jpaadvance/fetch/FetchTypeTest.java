@@ -101,7 +101,8 @@ public class FetchTypeTest {
     @Test
     @DisplayName("아보카도 피자 조회")
     void test1() {
-        Food food = foodRepository.findById(2L).orElseThrow(NullPointerException::new);
+        // Food.user 는 지연 로딩이므로 트랜잭션 밖에서 회원 정보를 사용하려면 엔티티 그래프로 함께 조회
+        Food food = foodRepository.findWithUserById(2L).orElseThrow(NullPointerException::new);
 
         System.out.println("food.getName() = " + food.getName());
         System.out.println("food.getPrice() = " + food.getPrice());
@@ -0,0 +1,111 @@
+package com.sparta.jpaadvance.fetch;
+
+import com.sparta.jpaadvance.entity.Food;
+import com.sparta.jpaadvance.entity.Order;
+import com.sparta.jpaadvance.entity.User;
+import com.sparta.jpaadvance.repository.FoodRepository;
+import com.sparta.jpaadvance.repository.OrderRepository;
+import com.sparta.jpaadvance.repository.UserRepository;
+import com.sparta.jpaadvance.support.SqlCounter;
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/*
+✅ Food.user, Order.food, Order.user 의 지연 로딩과 엔티티 그래프 조회를 검증하는 테스트
+
+    ➡️ findAll() 은 부모 엔티티를 조회하지 않고, 엔티티 그래프 메서드는 부모까지 한 번의 쿼리로 조회
+ */
+
+@SpringBootTest
+@ActiveProfiles("h2")
+public class LazyLoadingTest {
+
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    FoodRepository foodRepository;
+    @Autowired
+    OrderRepository orderRepository;
+
+    Long foodId;
+    Long orderId;
+
+    @BeforeEach
+    void init() {
+        User user = new User();
+        user.setName("Robbie");
+        userRepository.save(user);
+
+        Food food = new Food();
+        food.setName("후라이드 치킨");
+        food.setPrice(15000);
+        food.setUser(user);
+        foodRepository.save(food);
+        foodId = food.getId();
+
+        for (int i = 0; i < 5; i++) {
+            Order order = new Order();
+            order.setUser(user);
+            order.setFood(food);
+            orderRepository.save(order);
+            orderId = order.getId();
+        }
+    }
+
+    @AfterEach
+    void clear() {
+        orderRepository.deleteAllInBatch();
+        foodRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("주문 전체 조회 : 음식, 사용자는 조회하지 않음")
+    void test1() {
+        SqlCounter.reset();
+        List<Order> orderList = orderRepository.findAll();
+
+        assertEquals(1, SqlCounter.count());
+        assertEquals(5, orderList.size());
+        assertFalse(Hibernate.isInitialized(orderList.get(0).getFood()));
+        assertFalse(Hibernate.isInitialized(orderList.get(0).getUser()));
+    }
+
+    @Test
+    @DisplayName("엔티티 그래프 조회 : 음식, 사용자까지 쿼리 1번")
+    void test2() {
+        SqlCounter.reset();
+        List<Order> orderList = orderRepository.findAllWithFoodAndUserBy();
+
+        assertEquals(1, SqlCounter.count());
+        assertEquals(5, orderList.size());
+        assertEquals("후라이드 치킨", orderList.get(0).getFood().getName()); // 트랜잭션 밖에서도 접근 가능
+        assertEquals("Robbie", orderList.get(0).getUser().getName());
+
+        Order order = orderRepository.findWithFoodAndUserById(orderId).orElseThrow();
+        assertTrue(Hibernate.isInitialized(order.getFood()));
+        assertTrue(Hibernate.isInitialized(order.getUser()));
+    }
+
+    @Test
+    @DisplayName("음식 조회 : 트랜잭션 밖에서 회원 정보 사용")
+    void test3() {
+        Food food = foodRepository.findWithUserById(foodId).orElseThrow();
+        assertEquals("Robbie", food.getUser().getName());
+
+        Food lazyFood = foodRepository.findById(foodId).orElseThrow();
+        assertFalse(Hibernate.isInitialized(lazyFood.getUser()));
+    }
+}
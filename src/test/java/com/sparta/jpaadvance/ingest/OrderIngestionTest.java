@@ -0,0 +1,255 @@
+package com.sparta.jpaadvance.ingest;
+
+import com.sparta.jpaadvance.entity.Food;
+import com.sparta.jpaadvance.entity.Order;
+import com.sparta.jpaadvance.entity.User;
+import com.sparta.jpaadvance.repository.BulkInsertRepository;
+import com.sparta.jpaadvance.repository.FoodRepository;
+import com.sparta.jpaadvance.repository.OrderRepository;
+import com.sparta.jpaadvance.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/*
+✅ 비동기 주문 적재 큐(OrderIngestionQueue)를 검증하는 테스트
+
+    ➡️ 큐가 가득 찼을 때의 동작과 종료 시 저장은 writer 를 직접 만든 별도의 큐로 검증
+ */
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("h2")
+public class OrderIngestionTest {
+
+    static final int ORDER_COUNT = 1000;
+
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    FoodRepository foodRepository;
+    @Autowired
+    OrderRepository orderRepository;
+    @Autowired
+    BulkInsertRepository bulkInsertRepository;
+    @Autowired
+    OrderIngestionQueue orderIngestionQueue;
+    @Autowired
+    MeterRegistry meterRegistry;
+    @Autowired
+    MockMvc mockMvc;
+
+    User user;
+    Food food;
+
+    @BeforeEach
+    void init() {
+        user = new User();
+        user.setName("Robbie");
+        userRepository.save(user);
+
+        food = new Food();
+        food.setName("후라이드 치킨");
+        food.setPrice(15000);
+        foodRepository.save(food);
+    }
+
+    @AfterEach
+    void clear() {
+        await().atMost(Duration.ofSeconds(10)).until(() -> orderIngestionQueue.size() == 0);
+        orderRepository.deleteAllInBatch();
+        foodRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("주문 적재 : API 는 202, 주문은 배치로 모아서 저장")
+    void test1() throws Exception {
+        double batchesBefore = meterRegistry.get("jpa-advance.order-ingestion.batch.size").summary().count();
+        double writtenBefore = writtenCount("success");
+
+        mockMvc.perform(post("/api/orders/async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"userId\":" + user.getId() + ",\"foodId\":" + food.getId() + "}"))
+                .andExpect(status().isAccepted());
+        for (int i = 1; i < ORDER_COUNT; i++) {
+            orderIngestionQueue.submit(user.getId(), food.getId());
+        }
+
+        await().atMost(Duration.ofSeconds(10)).until(() -> orderRepository.count() == ORDER_COUNT);
+        assertEquals(ORDER_COUNT, writtenCount("success") - writtenBefore);
+        double batches = meterRegistry.get("jpa-advance.order-ingestion.batch.size").summary().count() - batchesBefore;
+        assertTrue(batches < ORDER_COUNT, "batches : " + batches);
+        assertTrue(orderRepository.findAll().stream().allMatch(order -> order.getOrderDate() != null));
+    }
+
+    @Test
+    @DisplayName("배치 저장 실패 : 한 건씩 다시 저장하여 실패한 주문만 버림")
+    void test2() throws Exception {
+        double failedBefore = writtenCount("failed");
+
+        BlockingWriter writer = new BlockingWriter(bulkInsertRepository::saveAllOrders);
+        try (OrderIngestionQueue queue = queue(10, OrderIngestionQueue.OverflowPolicy.REJECT, writer)) {
+            queue.submit(user.getId(), food.getId());
+            await().until(() -> queue.size() == 0); // 첫 번째 배치를 꺼내서 저장 중
+            queue.submit(user.getId(), food.getId());
+            queue.submit(user.getId(), Long.MAX_VALUE); // 없는 음식 : 참조 확인에서 거절 (DataIntegrityViolationException)
+            queue.submit(user.getId(), food.getId());
+            writer.release();
+        }
+        assertEquals(3, orderRepository.count());
+
+        // 애플리케이션의 큐도 같은 방식으로 처리
+        orderIngestionQueue.submit(user.getId(), Long.MAX_VALUE);
+        await().atMost(Duration.ofSeconds(10)).until(() -> writtenCount("failed") - failedBefore == 1);
+        assertEquals(3, orderRepository.count());
+    }
+
+    @Test
+    @DisplayName("큐가 가득 참 : REJECT 는 RejectedExecutionException (API 는 503)")
+    void test3() throws Exception {
+        BlockingWriter writer = new BlockingWriter(null);
+        try (OrderIngestionQueue queue = queue(2, OrderIngestionQueue.OverflowPolicy.REJECT, writer)) {
+            queue.submit(user.getId(), food.getId());
+            await().until(() -> queue.size() == 0);
+            queue.submit(user.getId(), food.getId());
+            queue.submit(user.getId(), food.getId());
+
+            assertThrows(RejectedExecutionException.class, () -> queue.submit(user.getId(), food.getId()));
+            writer.release();
+        }
+        assertEquals(3, writer.written.size());
+    }
+
+    @Test
+    @DisplayName("큐가 가득 참 : CALLER_RUNS 는 요청 스레드에서 직접 저장")
+    void test4() throws Exception {
+        BlockingWriter writer = new BlockingWriter(null);
+        try (OrderIngestionQueue queue = queue(2, OrderIngestionQueue.OverflowPolicy.CALLER_RUNS, writer)) {
+            queue.submit(user.getId(), food.getId());
+            await().until(() -> queue.size() == 0);
+            queue.submit(user.getId(), food.getId());
+            queue.submit(user.getId(), food.getId());
+
+            queue.submit(user.getId(), food.getId());
+            assertEquals(List.of(Thread.currentThread().getName()), writer.threadNames);
+            writer.release();
+        }
+        assertEquals(4, writer.written.size());
+    }
+
+    @Test
+    @DisplayName("종료 : 남은 주문을 모두 저장한 뒤 종료, 종료 후에는 거절")
+    void test5() throws Exception {
+        BlockingWriter writer = new BlockingWriter(orderList -> sleep(1));
+        OrderIngestionQueue queue = queue(ORDER_COUNT, OrderIngestionQueue.OverflowPolicy.CALLER_RUNS, writer);
+        writer.release();
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            queue.submit(user.getId(), food.getId());
+        }
+        queue.close();
+
+        assertEquals(ORDER_COUNT, writer.written.size());
+        assertThrows(RejectedExecutionException.class, () -> queue.submit(user.getId(), food.getId()));
+    }
+
+    @Test
+    @DisplayName("큐가 가득 참 : CALLER_RUNS 로 저장하다 실패하면 요청 스레드에 예외를 던짐")
+    void test6() throws Exception {
+        BlockingWriter writer = new BlockingWriter(orderList -> {
+            if (!Thread.currentThread().getName().equals("order-ingestion")) {
+                throw new DataIntegrityViolationException("없는 음식");
+            }
+        });
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        try (OrderIngestionQueue queue = new OrderIngestionQueue(2, 10, OrderIngestionQueue.OverflowPolicy.CALLER_RUNS,
+                Duration.ofSeconds(10), writer, registry)) { // 실패 건수를 확인하기 위해 registry 를 직접 전달
+            queue.submit(user.getId(), food.getId());
+            await().until(() -> queue.size() == 0);
+            queue.submit(user.getId(), food.getId());
+            queue.submit(user.getId(), food.getId());
+
+            assertThrows(DataIntegrityViolationException.class, () -> queue.submit(user.getId(), food.getId()));
+            writer.release();
+        }
+        assertEquals(3, writer.written.size());
+        assertEquals(1, registry.get("jpa-advance.order-ingestion.written").tag("result", "failed").counter().count());
+    }
+
+    private OrderIngestionQueue queue(int capacity, OrderIngestionQueue.OverflowPolicy policy, BlockingWriter writer) {
+        return new OrderIngestionQueue(capacity, 10, policy, Duration.ofSeconds(10), writer, new SimpleMeterRegistry());
+    }
+
+    private double writtenCount(String result) {
+        return meterRegistry.get("jpa-advance.order-ingestion.written").tag("result", result).counter().count();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // order-ingestion 스레드는 release() 전까지 저장하지 못하도록 막는 writer
+    // delegate 가 없으면 DB 에 저장하지 않고 받은 주문만 기록
+    private class BlockingWriter implements Consumer<List<Order>> {
+
+        final CountDownLatch latch = new CountDownLatch(1);
+        final List<Order> written = new CopyOnWriteArrayList<>();
+        final List<String> threadNames = new CopyOnWriteArrayList<>();
+        final Consumer<List<Order>> delegate;
+
+        BlockingWriter(Consumer<List<Order>> delegate) {
+            this.delegate = delegate;
+        }
+
+        void release() {
+            latch.countDown();
+        }
+
+        @Override
+        public void accept(List<Order> orderList) {
+            String threadName = Thread.currentThread().getName();
+            if (threadName.equals("order-ingestion")) {
+                try {
+                    latch.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            } else {
+                threadNames.add(threadName);
+            }
+            if (delegate != null) {
+                delegate.accept(orderList);
+            }
+            written.addAll(orderList);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.sparta.jpaadvance.metrics;
+
+import com.sparta.jpaadvance.entity.User;
+import com.sparta.jpaadvance.repository.BulkInsertRepository;
+import com.sparta.jpaadvance.repository.FoodRepository;
+import com.sparta.jpaadvance.repository.OrderRepository;
+import com.sparta.jpaadvance.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/*
+✅ 레포지토리 메서드, Hibernate, 커넥션 풀 지표가 수집되고 /actuator/metrics 로 조회되는지 검증하는 테스트
+ */
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("h2")
+public class PersistenceMetricsTest {
+
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    FoodRepository foodRepository;
+    @Autowired
+    OrderRepository orderRepository;
+    @Autowired
+    BulkInsertRepository bulkInsertRepository;
+    @Autowired
+    MeterRegistry meterRegistry;
+    @Autowired
+    MockMvc mockMvc;
+    @Autowired
+    TransactionTemplate transactionTemplate;
+    @PersistenceContext
+    EntityManager entityManager;
+
+    @AfterEach
+    void clear() {
+        orderRepository.deleteAllInBatch();
+        foodRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("레포지토리 메서드별 실행 시간")
+    void test1() {
+        User user = new User();
+        user.setName("Robbie");
+        userRepository.save(user);
+        userRepository.findByName("Robbie");
+
+        Timer timer = meterRegistry.find("spring.data.repository.invocations")
+                .tag("repository", "UserRepository")
+                .tag("method", "findByName")
+                .timer();
+        assertNotNull(timer);
+        assertTrue(timer.count() >= 1);
+    }
+
+    @Test
+    @DisplayName("Hibernate 쿼리 실행 시간, 엔티티 load, 2차 캐시, 커넥션 풀 지표")
+    void test2() {
+        User user = new User();
+        user.setName("Robbie");
+        userRepository.save(user);
+        // hibernate.query.* 는 JPQL 쿼리로 엔티티를 load 한 뒤 쿼리 문자열별로 등록됨
+        transactionTemplate.executeWithoutResult(status ->
+                entityManager.createQuery("select u from User u", User.class).getResultList());
+
+        assertNotNull(meterRegistry.find("hibernate.query.execution.total").tag("query", "select u from User u").functionTimer());
+        assertNotNull(meterRegistry.find("hibernate.entities.loads").functionCounter());
+        assertNotNull(meterRegistry.find("hibernate.second.level.cache.requests").tag("result", "hit").functionCounter());
+        assertNotNull(meterRegistry.find("hikaricp.connections.acquire").timer());
+    }
+
+    @Test
+    @DisplayName("JDBC 배치 저장 실행 시간 (@Timed)")
+    void test3() {
+        User user = new User();
+        user.setName("Robbie");
+        bulkInsertRepository.saveAllUsers(List.of(user));
+
+        Timer timer = meterRegistry.find("jpa-advance.bulk-insert").tag("method", "saveAllUsers").timer();
+        assertNotNull(timer);
+        assertTrue(timer.count() >= 1);
+    }
+
+    @Test
+    @DisplayName("/actuator/metrics 엔드포인트")
+    void test4() throws Exception {
+        userRepository.findByName("Robbie");
+
+        mockMvc.perform(get("/actuator/metrics/spring.data.repository.invocations").param("tag", "repository:UserRepository"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("spring.data.repository.invocations"));
+    }
+}
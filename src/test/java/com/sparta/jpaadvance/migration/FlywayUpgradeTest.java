@@ -0,0 +1,167 @@
+package com.sparta.jpaadvance.migration;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.metamodel.EntityType;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.CoreMigrationType;
+import org.flywaydb.core.api.MigrationInfo;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.tool.schema.spi.SchemaManagementToolCoordinator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.flyway.FlywayProperties;
+import org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/*
+✅ Flyway 를 도입하기 전 ddl-auto=update 로 만들어진 DB 를 마이그레이션하는 테스트
+
+    ➡️ 별도의 H2 DB 에 ddl-auto=update 가 만들던 스키마와 데이터를 만든 뒤, 애플리케이션과 같은 설정(spring.flyway.*)으로 마이그레이션
+
+            - baseline-on-migrate : 기존 DB 는 V1 을 적용된 것으로 기록하고 V2 부터 실행
+
+    ➡️ 마이그레이션 후 엔티티 매핑을 Hibernate 스키마 검증으로 확인 (ddl-auto=validate 와 같은 검사)
+
+    📢 테스트용 H2 DB(orderapp1)는 빈 DB 에 V1 부터 적용하는 경로로, 다른 테스트가 모두 사용
+ */
+
+@SpringBootTest
+@ActiveProfiles("h2") // 임베디드 H2 DB 사용
+public class FlywayUpgradeTest {
+
+    // 원래 엔티티(User, Food, Order)로 ddl-auto=update 가 만든 스키마, 외래 키 이름은 Hibernate 가 만든 FKxxxx
+    static final List<String> BEFORE_SERIES = List.of(
+            "create table users (id bigint generated by default as identity, name varchar(255), primary key (id))",
+            "create table food (price float(53) not null, id bigint generated by default as identity, user_id bigint," +
+                    " name varchar(255), primary key (id))",
+            "create table orders (food_id bigint, id bigint generated by default as identity, order_date timestamp(6)," +
+                    " user_id bigint, primary key (id))",
+            "alter table if exists food add constraint FKqd0qbbjxn8pvhwjnvbo9ek4a5 foreign key (user_id) references users",
+            "alter table if exists orders add constraint FKkt0qkekv9p3kc8ue62u5y8m0p foreign key (food_id) references food",
+            "alter table if exists orders add constraint FK32ql8ubntj5uh44ph9659tiih foreign key (user_id) references users");
+
+    // Flyway 를 도입하기 전까지 ddl-auto=update 가 엔티티의 @Table(indexes), 새 엔티티로 추가한 인덱스와 테이블
+    static final List<String> ADDED_BY_DDL_AUTO = List.of(
+            "create index idx_users_name on users (name)",
+            "create index idx_food_user_id on food (user_id)",
+            "create index idx_orders_order_date_id on orders (order_date, id)",
+            "create index idx_orders_user_id_order_date on orders (user_id, order_date)",
+            "create index idx_orders_food_id on orders (food_id)",
+            "create table orders_archive (id bigint not null, archived_at timestamp(6) not null, food_id bigint," +
+                    " order_date timestamp(6) not null, user_id bigint, primary key (id))",
+            "create index idx_orders_archive_user_id_order_date on orders_archive (user_id, order_date)",
+            "create table user_order_stats (order_count bigint not null, total_amount float(53) not null," +
+                    " last_order_date timestamp(6), user_id bigint not null, primary key (user_id))",
+            "create table food_order_stats (order_count bigint not null, total_amount float(53) not null," +
+                    " last_order_date timestamp(6), food_id bigint not null, primary key (food_id))");
+
+    static final List<String> DATA = List.of(
+            "insert into users (name) values ('Robbie')",
+            "insert into food (name, price, user_id) values ('후라이드 치킨', 15000, 1)",
+            "insert into orders (food_id, user_id, order_date) values (1, 1, '2026-01-15 12:00:00')");
+
+    @Autowired
+    FlywayProperties flywayProperties;
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("Flyway 도입 전 DB : V1 을 기준으로 기록하고 보관/통계 테이블, 인덱스, 열을 추가")
+    void test1() {
+        DataSource dataSource = legacyDatabase("before_series", BEFORE_SERIES);
+        migrate(dataSource);
+        assertMigrated(dataSource);
+    }
+
+    @Test
+    @DisplayName("ddl-auto=update 로 인덱스, 보관/통계 테이블까지 만든 DB : 이미 있는 테이블, 인덱스는 건너뜀")
+    void test2() {
+        DataSource dataSource = legacyDatabase("added_by_ddl_auto", concat(BEFORE_SERIES, ADDED_BY_DDL_AUTO));
+        migrate(dataSource);
+        assertMigrated(dataSource);
+    }
+
+    private DataSource legacyDatabase(String name, List<String> ddl) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        concat(ddl, DATA).forEach(jdbcTemplate::execute);
+        return dataSource;
+    }
+
+    // 애플리케이션의 spring.flyway.* 설정으로 마이그레이션
+    private void migrate(DataSource dataSource) {
+        Flyway flyway = Flyway.configure()
+                .dataSource(dataSource)
+                .locations(flywayProperties.getLocations().stream()
+                        .map(location -> location.replace("{vendor}", "h2"))
+                        .toArray(String[]::new))
+                .baselineOnMigrate(flywayProperties.isBaselineOnMigrate())
+                .baselineVersion(flywayProperties.getBaselineVersion())
+                .load();
+        flyway.migrate();
+
+        MigrationInfo[] applied = flyway.info().applied();
+        assertEquals(CoreMigrationType.BASELINE, applied[0].getType());
+        assertEquals("1", applied[0].getVersion().getVersion());
+        assertEquals(0, flyway.info().pending().length);
+    }
+
+    private void assertMigrated(DataSource dataSource) {
+        validateEntities(dataSource);
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        assertEquals(15000, jdbcTemplate.queryForObject("select amount from orders", Double.class), 0.001); // V5 에서 채움
+        assertEquals(0, jdbcTemplate.queryForObject("select version from food", Long.class));
+        assertEquals("NO", jdbcTemplate.queryForObject(
+                "select is_nullable from information_schema.columns" +
+                        " where table_name = 'orders' and column_name = 'order_date'", String.class));
+        List<String> indexes = jdbcTemplate.queryForList(
+                "select index_name from information_schema.indexes where table_name in ('orders', 'orders_archive')", String.class);
+        assertTrue(indexes.containsAll(List.of("idx_orders_order_date_id", "idx_orders_user_id_order_date",
+                "idx_orders_food_id", "idx_orders_archive_user_id_order_date", "idx_orders_archive_food_id")), indexes.toString());
+    }
+
+    // 애플리케이션의 모든 엔티티 매핑이 마이그레이션한 스키마와 맞는지 검증 (Spring Boot 와 같은 명명 전략)
+    private void validateEntities(DataSource dataSource) {
+        StandardServiceRegistry registry = new StandardServiceRegistryBuilder()
+                .applySetting(AvailableSettings.JAKARTA_NON_JTA_DATASOURCE, dataSource)
+                .applySetting(AvailableSettings.PHYSICAL_NAMING_STRATEGY, CamelCaseToUnderscoresNamingStrategy.class.getName())
+                .applySetting(AvailableSettings.IMPLICIT_NAMING_STRATEGY, SpringImplicitNamingStrategy.class.getName())
+                .applySetting(AvailableSettings.USE_SECOND_LEVEL_CACHE, false)
+                .build();
+        try {
+            MetadataSources metadataSources = new MetadataSources(registry);
+            for (EntityType<?> entity : entityManagerFactory.getMetamodel().getEntities()) {
+                metadataSources.addAnnotatedClass(entity.getJavaType());
+            }
+            Metadata metadata = metadataSources.buildMetadata();
+            SchemaManagementToolCoordinator.process(metadata, registry,
+                    Map.of(AvailableSettings.HBM2DDL_AUTO, "validate"), action -> {
+                    });
+        } finally {
+            StandardServiceRegistryBuilder.destroy(registry);
+        }
+    }
+
+    private static List<String> concat(List<String> first, List<String> second) {
+        return Stream.concat(first.stream(), second.stream()).toList();
+    }
+}
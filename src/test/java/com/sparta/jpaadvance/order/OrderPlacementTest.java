@@ -0,0 +1,181 @@
+package com.sparta.jpaadvance.order;
+
+import com.sparta.jpaadvance.dto.OrderSummary;
+import com.sparta.jpaadvance.entity.Food;
+import com.sparta.jpaadvance.entity.User;
+import com.sparta.jpaadvance.repository.FoodRepository;
+import com.sparta.jpaadvance.repository.OrderRepository;
+import com.sparta.jpaadvance.repository.UserRepository;
+import com.sparta.jpaadvance.service.OrderService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/*
+✅ 주문 생성, 단건 조회 서비스와 API 를 검증하는 테스트
+ */
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("h2")
+public class OrderPlacementTest {
+
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    FoodRepository foodRepository;
+    @Autowired
+    OrderRepository orderRepository;
+    @Autowired
+    OrderService orderService;
+    @Autowired
+    PlatformTransactionManager transactionManager;
+    @Autowired
+    MockMvc mockMvc;
+
+    User user;
+    Food food;
+
+    @BeforeEach
+    void init() {
+        user = new User();
+        user.setName("Robbie");
+        userRepository.save(user);
+
+        food = new Food();
+        food.setName("후라이드 치킨");
+        food.setPrice(15000);
+        foodRepository.save(food);
+    }
+
+    @AfterEach
+    void clear() {
+        orderRepository.deleteAllInBatch();
+        foodRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("주문 생성 : 저장된 주문을 회원, 음식 정보와 함께 반환")
+    void test1() {
+        OrderSummary order = orderService.placeOrder(user.getId(), food.getId());
+
+        assertNotNull(order.orderId());
+        assertNotNull(order.orderDate());
+        assertEquals("Robbie", order.userName());
+        assertEquals("후라이드 치킨", order.foodName());
+
+        OrderSummary found = orderService.findOrder(order.orderId());
+        assertEquals(order.orderId(), found.orderId());
+        assertEquals(user.getId(), found.userId());
+        assertEquals(food.getId(), found.foodId());
+    }
+
+    @Test
+    @DisplayName("주문 생성 : 없는 회원, 음식이면 예외, 주문은 저장되지 않음")
+    void test2() {
+        assertThrows(NoSuchElementException.class, () -> orderService.placeOrder(-1L, food.getId()));
+        assertThrows(NoSuchElementException.class, () -> orderService.placeOrder(user.getId(), -1L));
+        assertEquals(0, orderRepository.count());
+    }
+
+    @Test
+    @DisplayName("주문 API : POST 는 201 과 Location, GET 은 주문 조회, 없으면 404, 필수 값이 없으면 400")
+    void test3() throws Exception {
+        String location = mockMvc.perform(post("/api/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"userId\":" + user.getId() + ",\"foodId\":" + food.getId() + "}"))
+                .andExpect(status().isCreated())
+                .andExpect(header().exists("Location"))
+                .andExpect(jsonPath("$.userName").value("Robbie"))
+                .andReturn().getResponse().getHeader("Location");
+
+        mockMvc.perform(get(location))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.foodName").value("후라이드 치킨"))
+                .andExpect(jsonPath("$.price").value(15000.0));
+
+        mockMvc.perform(get("/api/orders/{id}", Long.MAX_VALUE))
+                .andExpect(status().isNotFound());
+
+        mockMvc.perform(post("/api/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"userId\":" + user.getId() + "}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("주문 생성과 음식 삭제 : 음식을 잠근 삭제가 끝날 때까지 기다린 뒤 없는 음식이면 예외, 삭제된 음식의 주문은 저장되지 않음")
+    void test4() throws Exception {
+        food.setUser(user);
+        foodRepository.save(food);
+
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch delete = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            // FoodService.deleteFoodsOfUser 와 같은 순서 : 음식 행을 잠그고(FOR UPDATE) 주문이 없는지 확인한 뒤 삭제
+            Future<?> deleting = executor.submit(() -> new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                foodRepository.lockIdsByUserId(user.getId());
+                locked.countDown();
+                await(delete);
+                assertFalse(orderRepository.existsByFoodIdIn(List.of(food.getId())));
+                foodRepository.deleteAllInBatchByUserId(user.getId());
+            }));
+            assertTrue(locked.await(10, TimeUnit.SECONDS));
+
+            Future<?> ordering = executor.submit(() -> orderService.placeOrder(user.getId(), food.getId()));
+            assertThrows(TimeoutException.class, () -> ordering.get(500, TimeUnit.MILLISECONDS)); // 음식의 공유 잠금을 기다림
+
+            delete.countDown();
+            deleting.get(10, TimeUnit.SECONDS);
+            ExecutionException e = assertThrows(ExecutionException.class, () -> ordering.get(10, TimeUnit.SECONDS));
+            assertInstanceOf(NoSuchElementException.class, e.getCause());
+        } finally {
+            delete.countDown();
+            executor.shutdownNow();
+        }
+        assertEquals(0, orderRepository.count());
+        assertTrue(foodRepository.findById(food.getId()).isEmpty());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.sparta.jpaadvance.pagination;
+
+import com.sparta.jpaadvance.dto.OrderPage;
+import com.sparta.jpaadvance.dto.OrderSummary;
+import com.sparta.jpaadvance.entity.Food;
+import com.sparta.jpaadvance.entity.Order;
+import com.sparta.jpaadvance.entity.User;
+import com.sparta.jpaadvance.repository.BulkInsertRepository;
+import com.sparta.jpaadvance.repository.FoodRepository;
+import com.sparta.jpaadvance.repository.OrderRepository;
+import com.sparta.jpaadvance.repository.UserRepository;
+import com.sparta.jpaadvance.service.OrderQueryService;
+import com.sparta.jpaadvance.support.SqlCounter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/*
+✅ 주문 키셋 페이지네이션을 검증하는 테스트
+
+    ➡️ 주문일이 같은 주문이 있어도 모든 주문이 중복, 누락 없이 (orderDate, id) 내림차순으로 조회되는지 확인
+ */
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("h2")
+public class OrderKeysetPaginationTest {
+
+    static final int ORDER_COUNT = 55;
+
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    FoodRepository foodRepository;
+    @Autowired
+    OrderRepository orderRepository;
+    @Autowired
+    BulkInsertRepository bulkInsertRepository;
+    @Autowired
+    OrderQueryService orderQueryService;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    @Autowired
+    MockMvc mockMvc;
+
+    List<Order> orderList = new ArrayList<>();
+
+    @BeforeEach
+    void init() {
+        User user = new User();
+        user.setName("Robbie");
+        userRepository.save(user);
+
+        Food food = new Food();
+        food.setName("후라이드 치킨");
+        food.setPrice(15000);
+        foodRepository.save(food);
+
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            Order order = new Order();
+            order.setUser(user);
+            order.setFood(food);
+            order.setOrderDate(now.minusMinutes(i / 3)); // 3건씩 같은 주문일
+            orderList.add(order);
+        }
+        bulkInsertRepository.saveAllOrders(orderList);
+    }
+
+    @AfterEach
+    void clear() {
+        orderRepository.deleteAllInBatch();
+        foodRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("모든 페이지 순회 : 중복, 누락 없이 최신순, 페이지마다 쿼리 1번")
+    void test1() {
+        List<Long> expected = orderList.stream()
+                .sorted(Comparator.comparing(Order::getOrderDate).thenComparing(Order::getId).reversed())
+                .map(Order::getId)
+                .toList();
+
+        List<Long> actual = new ArrayList<>();
+        String cursor = null;
+        do {
+            SqlCounter.reset();
+            OrderPage page = orderQueryService.findOrders(cursor, 10);
+            assertEquals(1, SqlCounter.count());
+
+            page.content().stream().map(OrderSummary::orderId).forEach(actual::add);
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    @DisplayName("마지막 페이지 : nextCursor 없음")
+    void test2() {
+        OrderPage page = orderQueryService.findOrders(null, ORDER_COUNT);
+        assertEquals(ORDER_COUNT, page.content().size());
+        assertNull(page.nextCursor());
+    }
+
+    @Test
+    @DisplayName("(order_date, id) 복합 인덱스 생성")
+    void test3() {
+        Integer count = jdbcTemplate.queryForObject(
+                "select count(*) from information_schema.indexes where lower(index_name) = 'idx_orders_order_date_id'",
+                Integer.class);
+        assertEquals(1, count);
+    }
+
+    @Test
+    @DisplayName("주문 목록 API : nextCursor 로 다음 페이지 조회, 잘못된 cursor 는 400")
+    void test4() throws Exception {
+        OrderPage first = orderQueryService.findOrders(null, 20);
+
+        mockMvc.perform(get("/api/orders").param("size", "20").param("cursor", first.nextCursor()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(20))
+                .andExpect(jsonPath("$.content[0].orderId").value(orderQueryService.findOrders(null, 21).content().get(20).orderId()))
+                .andExpect(jsonPath("$.nextCursor").isNotEmpty());
+
+        mockMvc.perform(get("/api/orders").param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+}
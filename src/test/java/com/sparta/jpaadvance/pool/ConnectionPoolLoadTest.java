@@ -0,0 +1,179 @@
+package com.sparta.jpaadvance.pool;
+
+import com.sparta.jpaadvance.JpaAdvanceApplication;
+import com.sparta.jpaadvance.entity.Food;
+import com.sparta.jpaadvance.entity.Order;
+import com.sparta.jpaadvance.entity.User;
+import com.sparta.jpaadvance.repository.BulkInsertRepository;
+import com.sparta.jpaadvance.repository.FoodRepository;
+import com.sparta.jpaadvance.repository.OrderRepository;
+import com.sparta.jpaadvance.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/*
+✅ 커넥션 풀 크기별 처리량, 커넥션 획득 대기 시간, 풀 포화도를 비교하는 부하 테스트 (./gradlew benchmark)
+
+    ➡️ 풀 크기마다 별도의 H2 DB 로 애플리케이션 컨텍스트를 띄우고, THREADS 개의 스레드가 DURATION 동안
+       트랜잭션 안에서 UserRepository, FoodRepository, OrderRepository 를 조회
+
+    ➡️ 임베디드 H2 는 네트워크 왕복이 없으므로 트랜잭션마다 DB_LATENCY_MILLIS 동안 커넥션을 잡고 있도록 하여 MySQL 과 비슷하게 만듦
+
+    ➡️ 출력
+
+            - ops/sec : 초당 처리한 트랜잭션 수
+
+            - acquire avg/max : hikaricp.connections.acquire (커넥션을 얻을 때까지 기다린 시간)
+
+            - pending avg/max : hikaricp.connections.pending (커넥션을 기다리는 스레드 수, 0 보다 크면 풀이 포화 상태)
+ */
+
+public class ConnectionPoolLoadTest {
+
+    static final int[] POOL_SIZES = {2, 5, 10, 20};
+    static final int THREADS = 32;
+    static final long DURATION_MILLIS = 3000;
+    static final long DB_LATENCY_MILLIS = 2;
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("풀 크기별 처리량, 커넥션 획득 대기 시간, 포화도 비교")
+    void benchmark() throws Exception {
+        System.out.printf("%-9s %12s %16s %16s %12s %12s%n",
+                "pool", "ops/sec", "acquire avg(ms)", "acquire max(ms)", "pending avg", "pending max");
+        for (int poolSize : POOL_SIZES) {
+            try (ConfigurableApplicationContext context = start(poolSize)) {
+                Result result = run(context);
+                System.out.printf("%-9d %,12.0f %16.3f %16.3f %12.1f %12.0f%n", poolSize,
+                        result.opsPerSec, result.acquireAvgMillis, result.acquireMaxMillis, result.pendingAvg, result.pendingMax);
+                assertTrue(result.opsPerSec > 0);
+            }
+        }
+    }
+
+    private ConfigurableApplicationContext start(int poolSize) {
+        return new SpringApplicationBuilder(JpaAdvanceApplication.class)
+                .profiles("h2")
+                .web(WebApplicationType.NONE)
+                // h2 프로필의 spring.datasource.url 보다 우선하도록 명령행 인자로 전달
+                .run("--spring.datasource.url=jdbc:h2:mem:pool" + poolSize + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.hikari.maximum-pool-size=" + poolSize,
+                        "--spring.datasource.hikari.minimum-idle=" + poolSize,
+                        "--spring.main.banner-mode=off",
+                        "--logging.level.root=warn");
+    }
+
+    private Result run(ConfigurableApplicationContext context) throws Exception {
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        FoodRepository foodRepository = context.getBean(FoodRepository.class);
+        OrderRepository orderRepository = context.getBean(OrderRepository.class);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        transactionTemplate.setReadOnly(true);
+        MeterRegistry meterRegistry = context.getBean(MeterRegistry.class);
+
+        User user = new User();
+        user.setName("Robbie");
+        userRepository.save(user);
+        Food food = new Food();
+        food.setName("후라이드 치킨");
+        food.setPrice(15000);
+        food.setUser(user);
+        foodRepository.save(food);
+        List<Order> orderList = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            Order order = new Order();
+            order.setUser(user);
+            order.setFood(food);
+            orderList.add(order);
+        }
+        context.getBean(BulkInsertRepository.class).saveAllOrders(orderList);
+
+        Runnable work = () -> transactionTemplate.executeWithoutResult(status -> {
+            userRepository.findById(user.getId());
+            foodRepository.findSummaryByUserId(user.getId());
+            orderRepository.findSummaryByUserId(user.getId());
+            sleep(DB_LATENCY_MILLIS);
+        });
+
+        // 워밍업 후 측정 전 지표를 기록
+        for (int i = 0; i < 200; i++) {
+            work.run();
+        }
+        Timer acquire = meterRegistry.get("hikaricp.connections.acquire").timer();
+        long acquireCountBefore = acquire.count();
+        double acquireTotalBefore = acquire.totalTime(TimeUnit.MILLISECONDS);
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<Long>> futures = new ArrayList<>();
+        long start = System.nanoTime();
+        for (int i = 0; i < THREADS; i++) {
+            futures.add(executor.submit(() -> {
+                long ops = 0;
+                while (running.get()) {
+                    work.run();
+                    ops++;
+                }
+                return ops;
+            }));
+        }
+
+        // 10ms 마다 커넥션을 기다리는 스레드 수를 기록
+        double pendingSum = 0;
+        double pendingMax = 0;
+        int samples = 0;
+        while (System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(DURATION_MILLIS)) {
+            double pending = meterRegistry.get("hikaricp.connections.pending").gauge().value();
+            pendingSum += pending;
+            pendingMax = Math.max(pendingMax, pending);
+            samples++;
+            sleep(10);
+        }
+        running.set(false);
+
+        long ops = 0;
+        for (Future<Long> future : futures) {
+            ops += future.get();
+        }
+        double elapsedSec = (System.nanoTime() - start) / 1_000_000_000.0;
+        executor.shutdown();
+
+        long acquireCount = acquire.count() - acquireCountBefore;
+        double acquireTotal = acquire.totalTime(TimeUnit.MILLISECONDS) - acquireTotalBefore;
+        return new Result(ops / elapsedSec,
+                acquireCount == 0 ? 0 : acquireTotal / acquireCount,
+                acquire.max(TimeUnit.MILLISECONDS),
+                pendingSum / samples,
+                pendingMax);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record Result(double opsPerSec, double acquireAvgMillis, double acquireMaxMillis,
+                          double pendingAvg, double pendingMax) {
+    }
+}
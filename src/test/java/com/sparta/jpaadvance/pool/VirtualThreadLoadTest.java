@@ -0,0 +1,198 @@
+package com.sparta.jpaadvance.pool;
+
+import com.sparta.jpaadvance.JpaAdvanceApplication;
+import com.sparta.jpaadvance.dto.OrderSummary;
+import com.sparta.jpaadvance.entity.Food;
+import com.sparta.jpaadvance.entity.User;
+import com.sparta.jpaadvance.repository.FoodRepository;
+import com.sparta.jpaadvance.repository.UserRepository;
+import com.sparta.jpaadvance.service.OrderService;
+import com.sparta.jpaadvance.support.LatencyStatementInspector;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/*
+✅ 요청 처리 스레드가 플랫폼 스레드일 때와 가상 스레드일 때의 주문 API 처리량을 비교하는 부하 테스트 (./gradlew benchmark)
+
+    ➡️ spring.threads.virtual.enabled 만 다르게 하여 애플리케이션을 띄우고, CONCURRENCY 개의 요청을 동시에 유지하면서
+       DURATION 동안 POST /api/orders 와 GET /api/orders/{id} 를 번갈아 호출
+
+    ➡️ SQL 마다 LatencyStatementInspector.LATENCY_MILLIS 만큼 커넥션을 잡고 기다리므로
+       처리량은 스레드 종류와 관계없이 커넥션 풀 크기(POOL_SIZE) / 요청당 커넥션 사용 시간을 넘지 못함
+
+    ➡️ 출력
+
+            - ops/sec, p50/p99 : 초당 처리한 요청 수, 응답 시간
+
+            - pending max : 커넥션을 기다린 요청 수의 최대값 (가상 스레드는 Tomcat 스레드 수 제한 없이 모든 요청이 풀에서 대기)
+
+            - threads max : JVM 플랫폼 스레드 수의 최대값 (가상 스레드는 포함되지 않음)
+
+    📢 가상 스레드는 JDK 21 이상에서 실행할 때만 측정 (그 이전 JDK 에서는 건너뜀)
+       빌드 툴체인은 17 이므로 비교하려면 테스트 JVM 을 21 로 지정 : ./gradlew benchmark -PbenchmarkJavaVersion=21
+ */
+
+public class VirtualThreadLoadTest {
+
+    static final int POOL_SIZE = 10;
+    static final int TOMCAT_MAX_THREADS = 200;
+    static final int CONCURRENCY = 400;
+    static final long WARMUP_MILLIS = 1000;
+    static final long DURATION_MILLIS = 3000;
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("플랫폼 스레드, 가상 스레드 요청 처리량 비교")
+    void benchmark() throws Exception {
+        System.out.printf("%-9s %12s %10s %10s %12s %12s%n",
+                "threads", "ops/sec", "p50(ms)", "p99(ms)", "pending max", "threads max");
+        for (boolean virtual : new boolean[]{false, true}) {
+            String name = virtual ? "virtual" : "platform";
+            if (virtual && Runtime.version().feature() < 21) {
+                System.out.printf("%-9s skipped (JDK 21 이상 필요, 현재 JDK %d : -PbenchmarkJavaVersion=21 로 실행)%n",
+                        name, Runtime.version().feature());
+                continue;
+            }
+            try (ConfigurableApplicationContext context = start(name, virtual)) {
+                Result result = run(context);
+                System.out.printf("%-9s %,12.0f %10.1f %10.1f %12.0f %12d%n", name,
+                        result.opsPerSec, result.p50Millis, result.p99Millis, result.pendingMax, result.threadsMax);
+                assertEquals(0, result.errors);
+                assertTrue(result.opsPerSec > 0);
+            }
+        }
+    }
+
+    private ConfigurableApplicationContext start(String name, boolean virtual) {
+        return new SpringApplicationBuilder(JpaAdvanceApplication.class)
+                .profiles("h2")
+                .web(WebApplicationType.SERVLET)
+                // h2 프로필 설정(datasource url, statement_inspector)보다 우선하도록 명령행 인자로 전달
+                .run("--server.port=0",
+                        "--server.tomcat.threads.max=" + TOMCAT_MAX_THREADS,
+                        "--spring.threads.virtual.enabled=" + virtual,
+                        "--spring.datasource.url=jdbc:h2:mem:" + name + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+                        "--spring.datasource.hikari.minimum-idle=" + POOL_SIZE,
+                        "--spring.jpa.properties.hibernate.session_factory.statement_inspector=" + LatencyStatementInspector.class.getName(),
+                        "--spring.main.banner-mode=off",
+                        "--logging.level.root=warn");
+    }
+
+    private Result run(ConfigurableApplicationContext context) throws Exception {
+        User user = new User();
+        user.setName("Robbie");
+        context.getBean(UserRepository.class).save(user);
+        Food food = new Food();
+        food.setName("후라이드 치킨");
+        food.setPrice(15000);
+        context.getBean(FoodRepository.class).save(food);
+        OrderSummary order = context.getBean(OrderService.class).placeOrder(user.getId(), food.getId());
+
+        String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port") + "/api/orders";
+        HttpRequest post = HttpRequest.newBuilder(URI.create(baseUrl))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"userId\":" + user.getId() + ",\"foodId\":" + food.getId() + "}"))
+                .build();
+        HttpRequest get = HttpRequest.newBuilder(URI.create(baseUrl + "/" + order.orderId())).GET().build();
+        List<HttpRequest> requests = List.of(post, get);
+
+        MeterRegistry meterRegistry = context.getBean(MeterRegistry.class);
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+        // 워밍업 후 측정
+        load(client, requests, WARMUP_MILLIS, () -> {
+        });
+
+        double[] pendingMax = {0};
+        int[] threadsMax = {0};
+        Load load = load(client, requests, DURATION_MILLIS, () -> {
+            pendingMax[0] = Math.max(pendingMax[0], meterRegistry.get("hikaricp.connections.pending").gauge().value());
+            threadsMax[0] = Math.max(threadsMax[0], threadMXBean.getThreadCount());
+        });
+
+        List<Long> latencies = new ArrayList<>(load.latencies);
+        latencies.sort(null);
+        return new Result(latencies.size() / load.elapsedSec,
+                percentileMillis(latencies, 0.50),
+                percentileMillis(latencies, 0.99),
+                pendingMax[0],
+                threadsMax[0],
+                load.errors.get());
+    }
+
+    // CONCURRENCY 개의 요청이 항상 진행 중이도록 응답이 오면 다음 요청을 보냄, 10ms 마다 sampler 실행
+    private Load load(HttpClient client, List<HttpRequest> requests, long durationMillis, Runnable sampler) throws InterruptedException {
+        Semaphore inFlight = new Semaphore(CONCURRENCY);
+        ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+        AtomicLong errors = new AtomicLong();
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(durationMillis);
+        long nextSample = start;
+
+        for (int i = 0; System.nanoTime() < deadline; i++) {
+            if (!inFlight.tryAcquire(10, TimeUnit.MILLISECONDS)) {
+                sampler.run();
+                continue;
+            }
+            long sent = System.nanoTime();
+            client.sendAsync(requests.get(i % requests.size()), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, e) -> {
+                        if (e != null || response.statusCode() >= 400) {
+                            errors.incrementAndGet();
+                        } else {
+                            latencies.add(System.nanoTime() - sent);
+                        }
+                        inFlight.release();
+                    });
+            if (sent >= nextSample) {
+                sampler.run();
+                nextSample = sent + TimeUnit.MILLISECONDS.toNanos(10);
+            }
+        }
+        double elapsedSec = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        // 남은 요청이 끝날 때까지 대기 (elapsed 이후 완료된 응답은 처리량에서 제외)
+        int completedInTime = latencies.size();
+        inFlight.acquire(CONCURRENCY);
+        List<Long> measured = new ArrayList<>(latencies).subList(0, completedInTime);
+        return new Load(measured, elapsedSec, errors);
+    }
+
+    private static double percentileMillis(List<Long> sortedNanos, double percentile) {
+        if (sortedNanos.isEmpty()) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sortedNanos.size()) - 1;
+        return sortedNanos.get(Math.max(index, 0)) / 1_000_000.0;
+    }
+
+    private record Load(List<Long> latencies, double elapsedSec, AtomicLong errors) {
+    }
+
+    private record Result(double opsPerSec, double p50Millis, double p99Millis,
+                          double pendingMax, int threadsMax, long errors) {
+    }
+}
@@ -0,0 +1,116 @@
+package com.sparta.jpaadvance.projection;
+
+import com.sparta.jpaadvance.dto.FoodSummary;
+import com.sparta.jpaadvance.dto.OrderSummary;
+import com.sparta.jpaadvance.entity.Food;
+import com.sparta.jpaadvance.entity.Order;
+import com.sparta.jpaadvance.entity.User;
+import com.sparta.jpaadvance.repository.FoodRepository;
+import com.sparta.jpaadvance.repository.OrderRepository;
+import com.sparta.jpaadvance.repository.UserRepository;
+import com.sparta.jpaadvance.support.SqlCounter;
+import jakarta.persistence.EntityManager;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/*
+✅ FoodRepository, OrderRepository 의 DTO 조회가 엔티티를 영속성 컨텍스트에 올리지 않는지 검증하는 테스트
+ */
+
+@SpringBootTest
+@ActiveProfiles("h2")
+public class ProjectionTest {
+
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    FoodRepository foodRepository;
+    @Autowired
+    OrderRepository orderRepository;
+    @Autowired
+    TransactionTemplate transactionTemplate;
+    @Autowired
+    EntityManager entityManager;
+
+    User user;
+
+    @BeforeEach
+    void init() {
+        user = new User();
+        user.setName("Robbie");
+        userRepository.save(user);
+
+        for (int i = 0; i < 3; i++) {
+            Food food = new Food();
+            food.setName("음식 " + i);
+            food.setPrice(10000 * (i + 1));
+            food.setUser(user);
+            foodRepository.save(food);
+
+            Order order = new Order();
+            order.setUser(user);
+            order.setFood(food);
+            orderRepository.save(order);
+        }
+    }
+
+    @AfterEach
+    void clear() {
+        orderRepository.deleteAllInBatch();
+        foodRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("음식 목록 DTO 조회 : 영속성 컨텍스트에 엔티티 없음")
+    void test1() {
+        transactionTemplate.executeWithoutResult(status -> {
+            Page<FoodSummary> page = foodRepository.findSummaryBy(PageRequest.of(0, 2, Sort.by("price").descending()));
+            assertEquals(3, page.getTotalElements());
+            assertEquals(30000, page.getContent().get(0).price());
+
+            List<FoodSummary> foodList = foodRepository.findSummaryByUserId(user.getId());
+            assertEquals(3, foodList.size());
+
+            assertEquals(0, managedEntityCount());
+        });
+    }
+
+    @Test
+    @DisplayName("주문 목록 DTO 조회 : 음식, 사용자 정보 포함 쿼리 1번")
+    void test2() {
+        transactionTemplate.executeWithoutResult(status -> {
+            SqlCounter.reset();
+            List<OrderSummary> orderList = orderRepository.findSummaryByUserId(user.getId());
+
+            assertEquals(1, SqlCounter.count());
+            assertEquals(3, orderList.size());
+            assertEquals("Robbie", orderList.get(0).userName());
+            assertEquals(0, managedEntityCount());
+
+            Page<OrderSummary> page = orderRepository.findSummaryBy(PageRequest.of(0, 2, Sort.by("orderDate")));
+            assertEquals(3, page.getTotalElements());
+            assertEquals(2, page.getContent().size());
+            assertEquals(0, managedEntityCount());
+        });
+    }
+
+    // 현재 영속성 컨텍스트가 관리 중인 엔티티 수
+    private int managedEntityCount() {
+        return entityManager.unwrap(SessionImplementor.class).getPersistenceContext().getNumberOfManagedEntities();
+    }
+}
@@ -0,0 +1,140 @@
+package com.sparta.jpaadvance.readonly;
+
+import com.sparta.jpaadvance.entity.Food;
+import com.sparta.jpaadvance.entity.User;
+import com.sparta.jpaadvance.repository.FoodRepository;
+import com.sparta.jpaadvance.repository.OrderRepository;
+import com.sparta.jpaadvance.repository.UserRepository;
+import com.sparta.jpaadvance.service.UserQueryService;
+import com.sparta.jpaadvance.support.SqlCounter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/*
+✅ 읽기 전용 트랜잭션(UserQueryService)과 읽기 전용 쿼리 힌트를 검증하는 테스트
+
+    ➡️ 읽기 전용으로 조회한 엔티티는 수정해도 flush 되지 않음 (스냅샷, 변경 감지 없음)
+ */
+
+@SpringBootTest
+@ActiveProfiles("h2")
+public class ReadOnlyTransactionTest {
+
+    static final int USER_COUNT = 6;
+    static final int FOODS_PER_USER = 4;
+
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    FoodRepository foodRepository;
+    @Autowired
+    OrderRepository orderRepository;
+    @Autowired
+    UserQueryService userQueryService;
+    @Autowired
+    PlatformTransactionManager transactionManager;
+    @PersistenceContext
+    EntityManager entityManager;
+
+    TransactionTemplate readOnly;
+    TransactionTemplate readWrite;
+
+    @BeforeEach
+    void init() {
+        for (int i = 0; i < USER_COUNT; i++) {
+            User user = new User();
+            user.setName("User" + i);
+            for (int j = 0; j < FOODS_PER_USER; j++) {
+                Food food = new Food();
+                food.setName("음식 " + j);
+                food.setPrice(10000);
+                user.addFoodList(food);
+            }
+            userRepository.save(user);
+        }
+
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readWrite = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void clear() {
+        orderRepository.deleteAllInBatch();
+        foodRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("서비스 조회 : 음식 목록까지 조회되어 트랜잭션 밖에서 사용 가능")
+    void test1() {
+        Page<User> page = userQueryService.findUsersWithFoods(PageRequest.of(0, 4, Sort.by("id")));
+
+        assertEquals(USER_COUNT, page.getTotalElements());
+        for (User user : page) {
+            assertEquals(FOODS_PER_USER, user.getFoodList().size());
+        }
+        assertEquals("User0", userQueryService.findFoodWithUser(page.getContent().get(0).getFoodList().get(0).getId())
+                .orElseThrow().getUser().getName());
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션 : 세션 FlushMode.MANUAL, 엔티티는 읽기 전용, 수정해도 UPDATE 없음")
+    void test2() {
+        SqlCounter.reset();
+        readOnly.executeWithoutResult(status -> {
+            Session session = entityManager.unwrap(Session.class);
+            assertEquals(FlushMode.MANUAL, session.getHibernateFlushMode());
+
+            User user = userQueryService.findUserWithFoods("User1").orElseThrow();
+            assertTrue(session.isReadOnly(user));
+            assertTrue(session.isReadOnly(user.getFoodList().get(0)));
+
+            user.setName("changed");
+            user.getFoodList().get(0).setPrice(1);
+        });
+        assertEquals(1, SqlCounter.count()); // 조회 SELECT 만 실행
+
+        assertTrue(userQueryService.findUserWithFoods("User1").isPresent());
+    }
+
+    @Test
+    @DisplayName("읽기 전용 쿼리 힌트 : 쓰기 트랜잭션 안에서도 힌트가 붙은 조회 결과는 변경 감지 대상이 아님")
+    void test3() {
+        readWrite.executeWithoutResult(status -> {
+            Session session = entityManager.unwrap(Session.class);
+            assertFalse(session.isDefaultReadOnly());
+
+            User hinted = userRepository.findWithFoodListReadOnlyByName("User2");
+            assertTrue(session.isReadOnly(hinted));
+            hinted.setName("changed");
+
+            User managed = userRepository.findByName("User3");
+            assertFalse(session.isReadOnly(managed));
+
+            User graph = userRepository.findWithFoodListByName("User4"); // 힌트가 없는 그래프 조회는 수정 가능
+            assertFalse(session.isReadOnly(graph));
+            assertFalse(session.isReadOnly(graph.getFoodList().get(0)));
+        });
+
+        assertTrue(userQueryService.findUserWithFoods("User2").isPresent());
+    }
+}
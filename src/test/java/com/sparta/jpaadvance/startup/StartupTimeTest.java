@@ -0,0 +1,162 @@
+package com.sparta.jpaadvance.startup;
+
+import com.sparta.jpaadvance.JpaAdvanceApplication;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/*
+✅ 스키마 관리 방식에 따른 애플리케이션 기동 시간을 비교하는 벤치마크 (./gradlew benchmark)
+
+    ➡️ update : Flyway 없이 ddl-auto=update (기동할 때마다 모든 테이블, 열, 인덱스, 외래 키 메타데이터를 조회해 비교)
+
+    ➡️ validate : Flyway 마이그레이션 확인(적용할 버전이 없으면 이력 테이블만 조회) + ddl-auto=validate (테이블, 열 메타데이터만 조회)
+
+    ➡️ none : Flyway 마이그레이션 확인 + ddl-auto=none, hibernate.boot.allow_jdbc_metadata_access=false
+
+    ➡️ none-skip : none 에서 Flyway 확인도 생략 (배포 단계에서 마이그레이션을 먼저 적용하고 FLYWAY_ENABLED=false 로 기동하는 운영 인스턴스)
+
+    ➡️ 모드마다 같은 DB 로 한 번 기동해 스키마를 만든 뒤, 이미 스키마가 있는 DB 로 다시 기동하는 시간을 ROUNDS 번 측정
+       (JIT, 클래스 로딩 영향을 줄이기 위해 모드를 번갈아 실행하고 중앙값을 비교)
+
+    ➡️ 임베디드 H2 는 메타데이터 조회가 메모리 안에서 끝나므로, DB 왕복(메타데이터 조회, SQL 실행)마다
+       ROUND_TRIP_MILLIS 만큼 멈추는 DataSource 로 감싸서 원격 MySQL 과 비슷한 조건을 만듦
+
+    ➡️ 출력
+
+            - median, min : 기동 시간
+
+            - round trips : 기동 중 DB 왕복 수 (update, validate 의 메타데이터 조회는 테이블이 많을수록 늘어남)
+
+    📢 Flyway 는 기동할 때마다 이력 테이블 조회, 잠금 등으로 여러 번 왕복하므로
+       테이블이 적으면 Flyway + validate 가 update 보다 왕복이 많을 수 있음 : 가장 빠른 기동은 none-skip
+ */
+
+public class StartupTimeTest {
+
+    static final int ROUNDS = 5;
+    static final long ROUND_TRIP_MILLIS = 1;
+
+    static final Map<String, List<String>> MODES = new LinkedHashMap<>();
+
+    static {
+        MODES.put("update", List.of(
+                "--spring.flyway.enabled=false",
+                "--spring.jpa.hibernate.ddl-auto=update"));
+        MODES.put("validate", List.of(
+                "--spring.jpa.hibernate.ddl-auto=validate"));
+        MODES.put("none", List.of(
+                "--spring.jpa.hibernate.ddl-auto=none",
+                "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.properties.hibernate.boot.allow_jdbc_metadata_access=false"));
+        MODES.put("none-skip", List.of(
+                "--spring.flyway.enabled=false",
+                "--spring.jpa.hibernate.ddl-auto=none",
+                "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.properties.hibernate.boot.allow_jdbc_metadata_access=false"));
+    }
+
+    static final AtomicLong roundTrips = new AtomicLong();
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("ddl-auto=update, Flyway + validate, Flyway + none, none(Flyway 생략) 기동 시간 비교")
+    void benchmark() {
+        Map<String, List<Long>> millis = new LinkedHashMap<>();
+        Map<String, Long> trips = new LinkedHashMap<>();
+        for (String mode : MODES.keySet()) {
+            // 스키마 생성 (측정 제외), none-skip 은 none 설정으로 마이그레이션을 먼저 적용
+            start(mode, MODES.get(mode.equals("none-skip") ? "none" : mode)).close();
+            millis.put(mode, new ArrayList<>());
+        }
+
+        for (int round = 0; round < ROUNDS; round++) {
+            for (String mode : MODES.keySet()) {
+                roundTrips.set(0);
+                long start = System.nanoTime();
+                ConfigurableApplicationContext context = start(mode, MODES.get(mode));
+                millis.get(mode).add((System.nanoTime() - start) / 1_000_000);
+                trips.put(mode, roundTrips.get());
+                context.close();
+            }
+        }
+
+        System.out.printf("%-10s %12s %12s %12s%n", "mode", "median(ms)", "min(ms)", "round trips");
+        millis.forEach((mode, list) -> {
+            List<Long> sorted = list.stream().sorted().toList();
+            System.out.printf("%-10s %,12d %,12d %,12d%n", mode, sorted.get(sorted.size() / 2), sorted.get(0), trips.get(mode));
+            assertEquals(ROUNDS, sorted.size());
+        });
+        assertTrue(trips.get("none") < trips.get("validate"));
+        assertTrue(trips.get("none-skip") < trips.get("update"));
+        assertEquals(0, trips.get("none-skip"));
+    }
+
+    // 모드마다 별도의 DB(startup_모드)로 기동
+    private ConfigurableApplicationContext start(String mode, List<String> settings) {
+        // h2 프로필 설정(datasource url, ddl-auto)보다 우선하도록 명령행 인자로 전달
+        String[] args = Stream.concat(Stream.of(
+                                "--spring.datasource.url=jdbc:h2:mem:startup_" + mode + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                                "--spring.main.banner-mode=off",
+                                "--logging.level.root=warn"),
+                        settings.stream())
+                .toArray(String[]::new);
+        return new SpringApplicationBuilder(JpaAdvanceApplication.class)
+                .profiles("h2")
+                .web(WebApplicationType.NONE)
+                .initializers(context -> context.getBeanFactory().addBeanPostProcessor(new BeanPostProcessor() {
+                    @Override
+                    public Object postProcessAfterInitialization(Object bean, String beanName) {
+                        return bean instanceof DataSource ? withLatency(DataSource.class, bean) : bean;
+                    }
+                }))
+                .run(args);
+    }
+
+    // JDBC 객체를 감싸서 DatabaseMetaData 조회와 Statement 실행(execute*) 전에 ROUND_TRIP_MILLIS 만큼 멈춤
+    // 반환된 Connection, DatabaseMetaData, Statement 도 같은 방식으로 감쌈
+    private static Object withLatency(Class<?> type, Object target) {
+        return Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            if (target instanceof DatabaseMetaData && method.getReturnType() == ResultSet.class
+                    || target instanceof Statement && method.getName().startsWith("execute")) {
+                roundTrips.incrementAndGet();
+                Thread.sleep(ROUND_TRIP_MILLIS);
+            }
+
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+
+            Class<?> returnType = method.getReturnType();
+            if (result != null && (returnType == Connection.class || returnType == DatabaseMetaData.class
+                    || Statement.class.isAssignableFrom(returnType))) {
+                return withLatency(returnType, result);
+            }
+            return result;
+        });
+    }
+}
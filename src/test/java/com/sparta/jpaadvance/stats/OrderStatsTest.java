@@ -0,0 +1,268 @@
+package com.sparta.jpaadvance.stats;
+
+import com.sparta.jpaadvance.dto.OrderSummary;
+import com.sparta.jpaadvance.entity.Food;
+import com.sparta.jpaadvance.entity.Order;
+import com.sparta.jpaadvance.entity.OrderStats;
+import com.sparta.jpaadvance.entity.User;
+import com.sparta.jpaadvance.repository.BulkInsertRepository;
+import com.sparta.jpaadvance.repository.FoodOrderStatsRepository;
+import com.sparta.jpaadvance.repository.FoodRepository;
+import com.sparta.jpaadvance.repository.OrderRepository;
+import com.sparta.jpaadvance.repository.OrderStatsJdbcRepository;
+import com.sparta.jpaadvance.repository.UserOrderStatsRepository;
+import com.sparta.jpaadvance.repository.UserRepository;
+import com.sparta.jpaadvance.service.FoodService;
+import com.sparta.jpaadvance.service.OrderExportService;
+import com.sparta.jpaadvance.service.OrderService;
+import com.sparta.jpaadvance.service.OrderStatsService;
+import com.sparta.jpaadvance.support.SqlCounter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.StringWriter;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/*
+✅ 회원별, 음식별 주문 통계(user_order_stats, food_order_stats)를 검증하는 테스트
+
+    ➡️ JPA 저장/삭제(OrderStatsListener), JDBC 배치 저장(BulkInsertRepository), 재집계(OrderStatsService.rebuild) 모두
+       주문 시점의 가격으로 집계한 값과 같은지 확인
+ */
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("h2")
+public class OrderStatsTest {
+
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    FoodRepository foodRepository;
+    @Autowired
+    OrderRepository orderRepository;
+    @Autowired
+    UserOrderStatsRepository userOrderStatsRepository;
+    @Autowired
+    FoodOrderStatsRepository foodOrderStatsRepository;
+    @Autowired
+    BulkInsertRepository bulkInsertRepository;
+    @Autowired
+    OrderService orderService;
+    @Autowired
+    OrderStatsService orderStatsService;
+    @Autowired
+    FoodService foodService;
+    @Autowired
+    OrderExportService orderExportService;
+    @Autowired
+    OrderStatsJdbcRepository orderStatsJdbcRepository;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    @Autowired
+    PlatformTransactionManager transactionManager;
+    @Autowired
+    MockMvc mockMvc;
+
+    User robbie;
+    User robbert;
+    Food chicken;
+    Food pizza;
+
+    @BeforeEach
+    void init() {
+        robbie = user("Robbie");
+        robbert = user("Robbert");
+        chicken = food("후라이드 치킨", 15000);
+        pizza = food("페퍼로니 피자", 20000);
+    }
+
+    @AfterEach
+    void clear() {
+        orderRepository.deleteAllInBatch();
+        foodRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+        userOrderStatsRepository.deleteAllInBatch();
+        foodOrderStatsRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("JPA 저장/삭제 : 엔티티 리스너가 통계를 증감")
+    void test1() {
+        Long first = orderService.placeOrder(robbie.getId(), chicken.getId()).orderId();
+        orderService.placeOrder(robbie.getId(), chicken.getId());
+        orderService.placeOrder(robbie.getId(), pizza.getId());
+        orderService.placeOrder(robbert.getId(), pizza.getId());
+
+        assertStats(orderStatsService.findUserStats(robbie.getId()), 3, 50000);
+        assertStats(orderStatsService.findUserStats(robbert.getId()), 1, 20000);
+        assertStats(orderStatsService.findFoodStats(chicken.getId()), 2, 30000);
+        assertStats(orderStatsService.findFoodStats(pizza.getId()), 2, 40000);
+
+        orderRepository.deleteById(first);
+        assertStats(orderStatsService.findUserStats(robbie.getId()), 2, 35000);
+        assertStats(orderStatsService.findFoodStats(chicken.getId()), 1, 15000);
+    }
+
+    @Test
+    @DisplayName("롤백 : 주문과 함께 통계 변경도 롤백")
+    void test2() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.executeWithoutResult(status -> {
+            orderService.placeOrder(robbie.getId(), chicken.getId());
+            status.setRollbackOnly();
+        });
+
+        assertEquals(0, orderRepository.count());
+        assertStats(orderStatsService.findUserStats(robbie.getId()), 0, 0);
+    }
+
+    @Test
+    @DisplayName("JDBC 배치 저장(비동기 적재 경로) : id 만 가진 주문도 (회원, 음식) 별로 묶어 통계에 반영")
+    void test3() {
+        LocalDateTime last = LocalDateTime.now().withNano(0);
+        List<Order> orderList = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            orderList.add(order(robbie.getId(), i % 2 == 0 ? chicken.getId() : pizza.getId(), last.minusMinutes(i)));
+        }
+        orderList.add(order(robbert.getId(), pizza.getId(), last.minusDays(1)));
+        bulkInsertRepository.saveAllOrders(orderList);
+
+        assertStats(orderStatsService.findUserStats(robbie.getId()), 10, 5 * 15000 + 5 * 20000);
+        assertStats(orderStatsService.findFoodStats(pizza.getId()), 6, 6 * 20000);
+        assertEquals(last, orderStatsService.findUserStats(robbie.getId()).getLastOrderDate());
+        assertEquals(last.minusMinutes(1), orderStatsService.findFoodStats(pizza.getId()).getLastOrderDate());
+    }
+
+    @Test
+    @DisplayName("가격 변경 : 통계 금액은 주문 시점 가격 기준, 가격이 바뀐 뒤 삭제해도 주문 시점 가격만큼 뺌")
+    void test4() {
+        Long first = orderService.placeOrder(robbie.getId(), chicken.getId()).orderId();
+        orderService.placeOrder(robbie.getId(), pizza.getId());
+
+        foodService.changePriceByPercent(10, 15000, 15000); // 치킨 16500
+        orderService.placeOrder(robbie.getId(), chicken.getId());
+        assertStats(orderStatsService.findUserStats(robbie.getId()), 3, 15000 + 20000 + 16500);
+
+        orderRepository.deleteById(first);
+        assertStats(orderStatsService.findUserStats(robbie.getId()), 2, 20000 + 16500);
+        assertStats(orderStatsService.findFoodStats(chicken.getId()), 1, 16500);
+
+        orderStatsService.rebuild();
+        assertStats(orderStatsService.findUserStats(robbie.getId()), 2, 20000 + 16500);
+        assertStats(orderStatsService.findFoodStats(chicken.getId()), 1, 16500);
+    }
+
+    @Test
+    @DisplayName("통계 API : 기본 키 조회 한 번, 주문이 없으면 0")
+    void test5() throws Exception {
+        orderService.placeOrder(robbie.getId(), chicken.getId());
+        orderService.placeOrder(robbie.getId(), pizza.getId());
+
+        SqlCounter.reset();
+        mockMvc.perform(get("/api/stats/users/{userId}", robbie.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.userId").value(robbie.getId()))
+                .andExpect(jsonPath("$.orderCount").value(2))
+                .andExpect(jsonPath("$.totalAmount").value(35000.0));
+        assertEquals(1, SqlCounter.count());
+
+        mockMvc.perform(get("/api/stats/foods/{foodId}", chicken.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.orderCount").value(1));
+
+        mockMvc.perform(get("/api/stats/users/{userId}", robbert.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.orderCount").value(0));
+    }
+
+    @Test
+    @DisplayName("재집계 : 콜백을 거치지 않은 변경(벌크 삭제)으로 어긋난 통계를 통계 키 구간별로 맞춤")
+    void test6() {
+        orderService.placeOrder(robbie.getId(), chicken.getId());
+        orderService.placeOrder(robbie.getId(), pizza.getId());
+        orderService.placeOrder(robbert.getId(), pizza.getId());
+        jdbcTemplate.update("update user_order_stats set order_count = 100");
+
+        // 구간 크기 1 : 통계 키 하나마다 별도 트랜잭션
+        OrderStatsService rangeRebuild = new OrderStatsService(userOrderStatsRepository, foodOrderStatsRepository,
+                orderStatsJdbcRepository, 1);
+        assertEquals(2, rangeRebuild.rebuild());
+        assertStats(orderStatsService.findUserStats(robbie.getId()), 2, 35000);
+        assertStats(orderStatsService.findUserStats(robbert.getId()), 1, 20000);
+        assertStats(orderStatsService.findFoodStats(pizza.getId()), 2, 40000);
+
+        orderRepository.deleteAllInBatch();
+        assertEquals(0, rangeRebuild.rebuild());
+        assertStats(orderStatsService.findUserStats(robbie.getId()), 0, 0);
+        assertStats(orderStatsService.findFoodStats(pizza.getId()), 0, 0);
+        assertEquals(0, userOrderStatsRepository.count());
+    }
+
+    @Test
+    @DisplayName("가격 변경 : 주문 생성 응답, 단건 조회, 주문 목록, 내보내기도 통계와 같은 주문 시점 가격")
+    void test7() throws Exception {
+        Long first = orderService.placeOrder(robbie.getId(), chicken.getId()).orderId();
+        foodService.changePriceByPercent(10, 15000, 15000); // 치킨 16500
+        assertEquals(16500, orderService.placeOrder(robbie.getId(), chicken.getId()).price(), 0.001);
+
+        assertEquals(15000, orderService.findOrder(first).price(), 0.001);
+        assertEquals(List.of(15000.0, 16500.0), orderRepository.findSummaryBy(PageRequest.of(0, 10, Sort.by("id")))
+                .map(OrderSummary::price).getContent());
+
+        StringWriter writer = new StringWriter();
+        orderExportService.exportCsv(writer);
+        assertEquals("15000.0", writer.toString().split("\n")[1].split(",")[5]);
+        assertStats(orderStatsService.findFoodStats(chicken.getId()), 2, 15000 + 16500);
+    }
+
+    private void assertStats(OrderStats stats, long orderCount, double totalAmount) {
+        assertEquals(orderCount, stats.getOrderCount());
+        assertEquals(totalAmount, stats.getTotalAmount(), 0.001);
+    }
+
+    private User user(String name) {
+        User user = new User();
+        user.setName(name);
+        return userRepository.save(user);
+    }
+
+    private Food food(String name, double price) {
+        Food food = new Food();
+        food.setName(name);
+        food.setPrice(price);
+        return foodRepository.save(food);
+    }
+
+    private static Order order(Long userId, Long foodId, LocalDateTime orderDate) {
+        User user = new User();
+        user.setId(userId);
+        Food food = new Food();
+        food.setId(foodId);
+
+        Order order = new Order();
+        order.setUser(user);
+        order.setFood(food);
+        order.setOrderDate(orderDate);
+        return order;
+    }
+}
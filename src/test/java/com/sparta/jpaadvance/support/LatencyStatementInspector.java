@@ -0,0 +1,24 @@
+package com.sparta.jpaadvance.support;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/*
+✅ SQL 마다 LATENCY_MILLIS 동안 멈추는 StatementInspector (부하 테스트용)
+
+    ➡️ 임베디드 H2 는 네트워크 왕복이 없으므로, 커넥션을 잡은 채 SQL 을 준비할 때마다 기다리게 하여 MySQL 과 비슷한 지연을 만듦
+ */
+
+public class LatencyStatementInspector implements StatementInspector {
+
+    public static final long LATENCY_MILLIS = 2;
+
+    @Override
+    public String inspect(String sql) {
+        try {
+            Thread.sleep(LATENCY_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return sql;
+    }
+}
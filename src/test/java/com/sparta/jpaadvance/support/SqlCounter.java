@@ -0,0 +1,32 @@
+package com.sparta.jpaadvance.support;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+✅ Hibernate 가 실행하는 SQL 의 개수를 세는 테스트용 StatementInspector
+
+    ➡️ application-h2.properties 의 hibernate.session_factory.statement_inspector 로 등록
+
+    ➡️ SqlCounter.reset() 후 조회 메서드를 실행하고 SqlCounter.count() 로 실행된 SQL 수를 검증하여 N+1 재발을 감지
+ */
+
+public class SqlCounter implements StatementInspector {
+
+    private static final AtomicInteger COUNT = new AtomicInteger();
+
+    @Override
+    public String inspect(String sql) {
+        COUNT.incrementAndGet();
+        return sql;
+    }
+
+    public static void reset() {
+        COUNT.set(0);
+    }
+
+    public static int count() {
+        return COUNT.get();
+    }
+}
@@ -0,0 +1,126 @@
+package com.sparta.jpaadvance.trace;
+
+import com.sparta.jpaadvance.entity.User;
+import com.sparta.jpaadvance.repository.BulkInsertRepository;
+import com.sparta.jpaadvance.repository.FoodRepository;
+import com.sparta.jpaadvance.repository.OrderRepository;
+import com.sparta.jpaadvance.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/*
+✅ DataSource 프록시로 SQL 을 기록하는 SqlTraceRecorder 를 검증하는 테스트
+
+    ➡️ 모든 SQL 이 느린 쿼리로 기록되도록 slow-query-threshold 를 0 으로 설정
+ */
+
+@SpringBootTest(properties = {
+        "jpa-advance.sql-trace.buffer-size=20",
+        "jpa-advance.sql-trace.slow-query-threshold=0ms"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("h2")
+@ExtendWith(OutputCaptureExtension.class)
+public class SqlTraceTest {
+
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    FoodRepository foodRepository;
+    @Autowired
+    OrderRepository orderRepository;
+    @Autowired
+    BulkInsertRepository bulkInsertRepository;
+    @Autowired
+    SqlTraceRecorder sqlTraceRecorder;
+    @Autowired
+    MockMvc mockMvc;
+
+    @AfterEach
+    void clear() {
+        orderRepository.deleteAllInBatch();
+        foodRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("SQL, 바인딩 파라미터 수, 행 수 기록")
+    void test1() {
+        List<User> userList = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            User user = new User();
+            user.setName("Robbie" + i);
+            userList.add(user);
+        }
+        bulkInsertRepository.saveAllUsers(userList);
+        userRepository.findByName("Robbie0");
+
+        List<SqlTrace> traces = sqlTraceRecorder.recent(2);
+        SqlTrace select = traces.get(0);
+        SqlTrace insert = traces.get(1);
+
+        assertTrue(select.sql().startsWith("select"));
+        assertEquals(1, select.bindCount());
+        assertEquals(1, select.rowCount());
+
+        assertTrue(insert.sql().startsWith("insert into users"));
+        assertEquals(3, insert.batchSize());
+        assertEquals(3, insert.bindCount());
+        assertEquals(3, insert.rowCount());
+        assertTrue(insert.success());
+
+        userRepository.findAll();
+        assertEquals(3, sqlTraceRecorder.recent(1).get(0).rowCount());
+    }
+
+    @Test
+    @DisplayName("링 버퍼 : 버퍼 크기를 넘으면 오래된 기록부터 덮어씀")
+    void test2() {
+        for (int i = 0; i < 30; i++) {
+            userRepository.findById((long) i);
+        }
+
+        List<SqlTrace> traces = sqlTraceRecorder.recent(100);
+        assertEquals(20, traces.size());
+        assertTrue(sqlTraceRecorder.totalCount() >= 30);
+    }
+
+    @Test
+    @DisplayName("느린 쿼리는 별도 스레드에서 로그로 출력")
+    void test3(CapturedOutput output) {
+        userRepository.findByName("Robbie");
+
+        await().atMost(Duration.ofSeconds(5))
+                .until(() -> output.getOut().contains("slow query"));
+    }
+
+    @Test
+    @DisplayName("/actuator/sqltrace 엔드포인트")
+    void test4() throws Exception {
+        userRepository.findByName("Robbie");
+
+        mockMvc.perform(get("/actuator/sqltrace").param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(5));
+    }
+}